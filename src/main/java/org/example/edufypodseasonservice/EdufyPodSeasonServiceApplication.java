@@ -2,8 +2,11 @@ package org.example.edufypodseasonservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is only used by ReactiveSeasonRepository, which keeps its own pool. An auto-configured
+// ConnectionFactory bean would make Spring Boot skip the JDBC DataSource that JPA runs on.
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class EdufyPodSeasonServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,10 @@
+package org.example.edufypodseasonservice.configs;
+
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
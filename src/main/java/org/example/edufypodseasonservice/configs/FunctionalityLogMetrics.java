@@ -0,0 +1,57 @@
+package org.example.edufypodseasonservice.configs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Metrics of the async functionality logger: events logged (their rate is the logger's throughput),
+// events dropped because the ring buffer was full and the free slots left in the ring buffer.
+@Component
+public class FunctionalityLogMetrics {
+
+    static final String LOGGER_NAME = "functionality";
+
+    @Autowired
+    public FunctionalityLogMetrics(MeterRegistry meterRegistry) {
+        this((LoggerContext) LogManager.getContext(false), meterRegistry);
+    }
+
+    FunctionalityLogMetrics(LoggerContext loggerContext, MeterRegistry meterRegistry) {
+        Counter events = Counter.builder("functionality.log.events")
+                .description("Events handed to the functionality logger")
+                .register(meterRegistry);
+        // runs on the logging thread before the event is queued, counts without allocating
+        LoggerConfig loggerConfig = loggerContext.getConfiguration().getLoggerConfig(LOGGER_NAME);
+        loggerConfig.addFilter(new AbstractFilter(Filter.Result.NEUTRAL, Filter.Result.NEUTRAL) {
+            @Override
+            public Result filter(LogEvent event) {
+                events.increment();
+                return Result.NEUTRAL;
+            }
+        });
+
+        FunctionCounter.builder("functionality.log.dropped", FunctionalityLogQueueFullPolicy.class,
+                        policy -> FunctionalityLogQueueFullPolicy.discardedEvents())
+                .description("Functionality log events dropped because the ring buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("functionality.log.queue.remaining", loggerContext, FunctionalityLogMetrics::remainingCapacity)
+                .description("Free slots in the ring buffer of the functionality logger")
+                .register(meterRegistry);
+    }
+
+    // read from the current configuration, Spring Boot replaces it when logging is reinitialized
+    private static double remainingCapacity(LoggerContext loggerContext) {
+        return loggerContext.getConfiguration().getAsyncLoggerConfigDelegate()
+                .createRingBufferAdmin(loggerContext.getName(), LOGGER_NAME)
+                .getRemainingCapacity();
+    }
+}
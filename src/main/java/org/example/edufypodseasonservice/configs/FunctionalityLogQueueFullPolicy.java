@@ -0,0 +1,36 @@
+package org.example.edufypodseasonservice.configs;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.async.DiscardingAsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.EventRoute;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// What the async functionality logger does with an event when its ring buffer is full. Log4j creates it
+// from log4j2.component.properties, the count of dropped events is published by FunctionalityLogMetrics.
+public class FunctionalityLogQueueFullPolicy extends DiscardingAsyncQueueFullPolicy {
+
+    private static final LongAdder DISCARDED = new LongAdder();
+
+    public FunctionalityLogQueueFullPolicy() {
+        this(Level.toLevel(PropertiesUtil.getProperties().getStringProperty("log4j2.discardThreshold"), Level.INFO));
+    }
+
+    FunctionalityLogQueueFullPolicy(Level thresholdLevel) {
+        super(thresholdLevel);
+    }
+
+    @Override
+    public EventRoute getRoute(long backgroundThreadId, Level level) {
+        EventRoute route = super.getRoute(backgroundThreadId, level);
+        if (route == EventRoute.DISCARD) {
+            DISCARDED.increment();
+        }
+        return route;
+    }
+
+    public static long discardedEvents() {
+        return DISCARDED.sum();
+    }
+}
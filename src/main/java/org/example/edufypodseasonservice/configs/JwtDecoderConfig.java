@@ -0,0 +1,66 @@
+package org.example.edufypodseasonservice.configs;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// JWT decoding for both web stacks: keys from the local JWK set when jwt.jwk-set.location is set, otherwise
+// from Keycloak's jwk-set-uri, and the issuer checked when issuer-uri is set, like Spring Boot's own decoder.
+// Validated tokens are served from ValidatedJwtCache until they expire.
+@Configuration
+@ConditionalOnExpression("'${jwt.jwk-set.location:}' != '' or '${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}' != ''")
+public class JwtDecoderConfig {
+
+    @Bean
+    public JwtDecoder jwtDecoder(ObjectProvider<LocalJwkSet> localJwkSet, ValidatedJwtCache validatedJwtCache,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}") String jwkSetUri,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri) {
+        JWKSource<SecurityContext> jwkSource = localJwkSet.getIfAvailable();
+        NimbusJwtDecoder validatingDecoder = jwkSource != null
+                ? validatingDecoder(jwkSource)
+                : NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+        validatingDecoder.setJwtValidator(issuerUri.isEmpty()
+                ? JwtValidators.createDefault()
+                : JwtValidators.createDefaultWithIssuer(issuerUri));
+        return token -> validatedJwtCache.decode(token, validatingDecoder);
+    }
+
+    // cache hits are answered on the calling thread, a miss may have to fetch the JWK set from Keycloak
+    // and is decoded off the event loop
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveJwtDecoder reactiveJwtDecoder(JwtDecoder jwtDecoder, ValidatedJwtCache validatedJwtCache) {
+        return token -> {
+            Jwt cached = validatedJwtCache.getIfPresent(token);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return Mono.fromCallable(() -> jwtDecoder.decode(token))
+                    .subscribeOn(Schedulers.boundedElastic());
+        };
+    }
+
+    // RS256 like NimbusJwtDecoder.withJwkSetUri, claims are checked by the Spring validators set above
+    static NimbusJwtDecoder validatingDecoder(JWKSource<SecurityContext> jwkSource) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+}
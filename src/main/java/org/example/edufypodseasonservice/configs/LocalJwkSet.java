@@ -0,0 +1,65 @@
+package org.example.edufypodseasonservice.configs;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.List;
+
+// JWK set read from jwt.jwk-set.location instead of Keycloak's jwk-set-uri, so the service starts and
+// verifies tokens without reaching Keycloak. The file is read again every jwt.jwk-set.refresh-interval,
+// if it can't be read or parsed the keys loaded before stay in use.
+@Component
+@ConditionalOnProperty("jwt.jwk-set.location")
+public class LocalJwkSet implements JWKSource<SecurityContext> {
+
+    private static final Logger F_LOG = LogManager.getLogger("functionality");
+
+    private final Resource location;
+    private volatile JWKSet jwkSet;
+
+    @Autowired
+    public LocalJwkSet(@Value("${jwt.jwk-set.location}") Resource location) throws IOException, ParseException {
+        this.location = location;
+        this.jwkSet = load();
+        F_LOG.info("Loaded {} JWKs from {}.", jwkSet.size(), location);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.jwk-set.refresh-interval:PT5M}",
+            initialDelayString = "${jwt.jwk-set.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            JWKSet loaded = load();
+            if (!loaded.toJSONObject().equals(jwkSet.toJSONObject())) {
+                jwkSet = loaded;
+                F_LOG.info("Reloaded {} JWKs from {}.", loaded.size(), location);
+            }
+        } catch (IOException | ParseException e) {
+            F_LOG.warn("Could not reload JWKs from {}, keeping the loaded keys: {}", location, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        return jwkSelector.select(jwkSet);
+    }
+
+    private JWKSet load() throws IOException, ParseException {
+        try (InputStream inputStream = location.getInputStream()) {
+            return JWKSet.load(inputStream);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.edufypodseasonservice.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+// Tokens that passed signature and claim validation, so a caller sending the same bearer token again
+// skips the RSA check. Entries are keyed by a SHA-256 of the token, not the token itself, and expire at
+// the token's exp. Tokens without exp and failed decodes are never cached.
+@Component
+public class ValidatedJwtCache {
+
+    private final Cache<String, Jwt> cache;
+    private final Clock clock;
+
+    @Autowired
+    public ValidatedJwtCache(@Value("${jwt.cache.max-size:10000}") long maxSize, MeterRegistry meterRegistry) {
+        this(maxSize, meterRegistry, Ticker.systemTicker(), Clock.systemUTC());
+    }
+
+    ValidatedJwtCache(long maxSize, MeterRegistry meterRegistry, Ticker ticker, Clock clock) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Jwt>writing((key, jwt) -> timeLeft(jwt)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "validatedJwt");
+    }
+
+    public Jwt decode(String token, JwtDecoder validatingDecoder) {
+        String key = key(token);
+        Jwt jwt = cache.getIfPresent(key);
+        if (jwt != null) {
+            return jwt;
+        }
+        jwt = validatingDecoder.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    public Jwt getIfPresent(String token) {
+        return cache.getIfPresent(key(token));
+    }
+
+    private Duration timeLeft(Jwt jwt) {
+        Duration timeLeft = Duration.between(Instant.now(clock), jwt.getExpiresAt());
+        return timeLeft.isNegative() ? Duration.ZERO : timeLeft;
+    }
+
+    private static String key(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required on every JVM", e);
+        }
+    }
+}
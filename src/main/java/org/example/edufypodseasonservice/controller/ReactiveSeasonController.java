@@ -0,0 +1,57 @@
+package org.example.edufypodseasonservice.controller;
+
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.services.ReactiveSeasonService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// The read endpoints of SeasonController on WebFlux, started by the "reactive" profile. Lists are
+// streamed as a JSON array, or one season per line for Accept: application/x-ndjson, so they carry
+// no ETag; that would need the whole list before the first byte.
+@RestController
+@RequestMapping("/pods/seasons")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSeasonController {
+
+    private final ReactiveSeasonService reactiveSeasonService;
+
+    @Autowired
+    public ReactiveSeasonController(ReactiveSeasonService reactiveSeasonService) {
+        this.reactiveSeasonService = reactiveSeasonService;
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/allseasons")
+    public Flux<SeasonDto> getAllSeasons() {
+        return reactiveSeasonService.getAllSeasons();
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/allfullseasonsbypodcast/{podcastId}")
+    public Flux<SeasonDto> getAllFullSeasonsByPodcast(@PathVariable UUID podcastId) {
+        return reactiveSeasonService.getSeasonsByPodcast(podcastId, true);
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/alllimitedseasonsbypodcast/{podcastId}")
+    public Flux<SeasonDto> getAllLimitedSeasonsByPodcast(@PathVariable UUID podcastId) {
+        return reactiveSeasonService.getSeasonsByPodcast(podcastId, false);
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/latestseasonsbypodcast/{podcastId}")
+    public Mono<ResponseEntity<SeasonDto>> getLatestSeasonsByPodcast(@PathVariable UUID podcastId) {
+        return reactiveSeasonService.getLatestSeason(podcastId)
+                .map(seasonDto -> ResponseEntity.ok().eTag(SeasonEtags.of(seasonDto)).body(seasonDto));
+    }
+}
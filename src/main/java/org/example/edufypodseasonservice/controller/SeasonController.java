@@ -1,62 +1,195 @@
 package org.example.edufypodseasonservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.edufypodseasonservice.dto.SeasonBulkResultDto;
 import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonImportResultDto;
+import org.example.edufypodseasonservice.dto.SeasonPageDto;
 import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.services.SeasonImporter;
 import org.example.edufypodseasonservice.services.SeasonService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
+// GET responses carry an ETag built from season versions (see SeasonEtags). Lists check If-None-Match
+// against the versions in the database first and only load the seasons when they changed, single seasons
+// come from the season cache and Spring answers a matching If-None-Match with 304.
 @RestController
 @RequestMapping("/pods/seasons")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SeasonController {
 
     private final SeasonService seasonService;
+    private final SeasonImporter seasonImporter;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public SeasonController(SeasonService seasonService) {
+    public SeasonController(SeasonService seasonService, SeasonImporter seasonImporter, ObjectMapper objectMapper) {
         this.seasonService = seasonService;
+        this.seasonImporter = seasonImporter;
+        this.objectMapper = objectMapper;
     }
 
     @PreAuthorize("hasAnyRole('edufy_User','edufy_Adminv')")
     @GetMapping("/season/{seasonId}")
     public ResponseEntity<SeasonDto> getSeason(@PathVariable UUID seasonId) {
-        return ResponseEntity.ok(seasonService.getSeason(seasonId));
+        SeasonDto seasonDto = seasonService.getSeason(seasonId);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDto)).body(seasonDto);
     }
 
     @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
     @GetMapping("/allseasons")
-    public ResponseEntity<List<SeasonDto>> getAllSeasons() {
-        return ResponseEntity.ok(seasonService.getAllSeasons());
+    public ResponseEntity<List<SeasonDto>> getAllSeasons(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = SeasonEtags.ofRows(seasonService.getAllSeasonVersions());
+            if (SeasonEtags.matches(ifNoneMatch, etag)) {
+                return SeasonEtags.notModified(etag);
+            }
+        }
+        List<SeasonDto> seasonDtos = seasonService.getAllSeasons();
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDtos)).body(seasonDtos);
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/allseasons/page")
+    public ResponseEntity<SeasonPageDto> getSeasonsPage(@RequestParam(required = false) UUID afterPodcastId,
+                                                        @RequestParam(required = false) Integer afterSeasonNumber,
+                                                        @RequestParam(defaultValue = "100") Integer size,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = SeasonEtags.ofRows(seasonService.getSeasonsPageVersions(afterPodcastId, afterSeasonNumber, size));
+            if (SeasonEtags.matches(ifNoneMatch, etag)) {
+                return SeasonEtags.notModified(etag);
+            }
+        }
+        SeasonPageDto seasonPageDto = seasonService.getSeasonsPage(afterPodcastId, afterSeasonNumber, size);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonPageDto.getSeasons())).body(seasonPageDto);
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/allseasons/stream")
+    public void streamAllSeasons(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            seasonService.streamAllSeasons(seasonDto -> {
+                try {
+                    generator.writeObject(seasonDto);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    // the whole catalog with episodes, one season per line
+    @PreAuthorize("hasRole('edufy_Admin')")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportSeasons(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            seasonService.exportAllSeasons(seasonDto -> {
+                try {
+                    generator.writeObject(seasonDto);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // reads the body as it arrives, in the format written by /export
+    @PreAuthorize("hasRole('edufy_Admin')")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<SeasonImportResultDto> importSeasons(HttpServletRequest request,
+                                                               @RequestParam(defaultValue = "true") boolean linkEpisodes)
+            throws IOException {
+        try (MappingIterator<SeasonDto> seasonDtos = objectMapper.readerFor(SeasonDto.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(seasonImporter.importSeasons(seasonDtos, linkEpisodes));
+        }
     }
 
     @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
     @GetMapping("/allfullseasonsbypodcast/{podcastId}")
-    public ResponseEntity<List<SeasonDto>> getAllFullSeasonsByPodcast(@PathVariable UUID podcastId) {
-        return ResponseEntity.ok(seasonService.getSeasonsByPodcast(podcastId, true));
+    public ResponseEntity<List<SeasonDto>> getAllFullSeasonsByPodcast(@PathVariable UUID podcastId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = SeasonEtags.ofRows(seasonService.getPodcastSeasonVersions(podcastId));
+            if (SeasonEtags.matches(ifNoneMatch, etag)) {
+                return SeasonEtags.notModified(etag);
+            }
+        }
+        List<SeasonDto> seasonDtos = seasonService.getSeasonsByPodcast(podcastId, true);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDtos)).body(seasonDtos);
     }
 
     @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
     @GetMapping("/alllimitedseasonsbypodcast/{podcastId}")
-    public ResponseEntity<List<SeasonDto>> getAllLimitedSeasonsByPodcast(@PathVariable UUID podcastId) {
-        return ResponseEntity.ok(seasonService.getSeasonsByPodcast(podcastId, false));
+    public ResponseEntity<List<SeasonDto>> getAllLimitedSeasonsByPodcast(@PathVariable UUID podcastId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = SeasonEtags.ofRows(seasonService.getPodcastSeasonVersions(podcastId));
+            if (SeasonEtags.matches(ifNoneMatch, etag)) {
+                return SeasonEtags.notModified(etag);
+            }
+        }
+        List<SeasonDto> seasonDtos = seasonService.getSeasonsByPodcast(podcastId, false);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDtos)).body(seasonDtos);
     }
 
     @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
     @GetMapping("/firstseasonsbypodcast/{podcastId}")
     public ResponseEntity<SeasonDto> getFirstSeasonsByPodcast(@PathVariable UUID podcastId) {
-        return ResponseEntity.ok(seasonService.getFirstSeason(podcastId));
+        SeasonDto seasonDto = seasonService.getFirstSeason(podcastId);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDto)).body(seasonDto);
     }
 
     @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
     @GetMapping("/latestseasonsbypodcast/{podcastId}")
     public ResponseEntity<SeasonDto> getLatestSeasonsByPodcast(@PathVariable UUID podcastId) {
-        return ResponseEntity.ok(seasonService.getLatestSeason(podcastId));
+        SeasonDto seasonDto = seasonService.getLatestSeason(podcastId);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDto)).body(seasonDto);
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @GetMapping("/seasonsbyepisode/{episodeId}")
+    public ResponseEntity<List<SeasonDto>> getSeasonsByEpisode(@PathVariable UUID episodeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = SeasonEtags.ofRows(seasonService.getEpisodeSeasonVersions(episodeId));
+            if (SeasonEtags.matches(ifNoneMatch, etag)) {
+                return SeasonEtags.notModified(etag);
+            }
+        }
+        List<SeasonDto> seasonDtos = seasonService.getSeasonsByEpisode(episodeId);
+        return ResponseEntity.ok().eTag(SeasonEtags.of(seasonDtos)).body(seasonDtos);
+    }
+
+    @PreAuthorize("hasAnyRole('edufy_User','edufy_Admin')")
+    @PostMapping("/seasonsbyepisodes")
+    public ResponseEntity<Map<UUID, List<SeasonDto>>> getSeasonsByEpisodes(@RequestBody List<UUID> episodeIds) {
+        return ResponseEntity.ok(seasonService.getSeasonsByEpisodes(episodeIds));
     }
 
     @PreAuthorize("hasRole('edufy_Admin')")
@@ -65,6 +198,13 @@ public class SeasonController {
         return ResponseEntity.ok(seasonService.addSeason(seasonDto));
     }
 
+    // per season results, the status of each item tells whether it was created
+    @PreAuthorize("hasRole('edufy_Admin')")
+    @PostMapping("/addseasons")
+    public ResponseEntity<List<SeasonBulkResultDto>> addSeasons(@RequestBody List<SeasonDto> seasonDtos) {
+        return ResponseEntity.ok(seasonService.addSeasons(seasonDtos));
+    }
+
     @PreAuthorize("hasRole('edufy_Admin')")
     @PutMapping("/updateseason")
     public ResponseEntity<Season> updateSeason(@RequestBody SeasonDto seasonDto) {
@@ -0,0 +1,87 @@
+package org.example.edufypodseasonservice.controller;
+
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.repositories.SeasonVersion;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// ETags built from season versions, so a 304 never needs the body serialized. A season is "<id>-<version>".
+// A list is "<count>-<hash>", the hash runs over the (id, version) of every season in list order, so any
+// edit, added or removed season changes it, whatever ids and versions are involved. For a list the same
+// value comes from the database (SeasonVersion rows) before anything is loaded, and from the body once it is.
+final class SeasonEtags {
+
+    private SeasonEtags() {
+    }
+
+    static String of(SeasonDto seasonDto) {
+        return "\"" + seasonDto.getId() + "-" + seasonDto.getVersion() + "\"";
+    }
+
+    static String of(Collection<SeasonDto> seasonDtos) {
+        ListHash hash = new ListHash();
+        for (SeasonDto seasonDto : seasonDtos) {
+            hash.add(seasonDto.getId(), seasonDto.getVersion());
+        }
+        return hash.etag(seasonDtos.size());
+    }
+
+    static String ofRows(Collection<SeasonVersion> seasonVersions) {
+        ListHash hash = new ListHash();
+        for (SeasonVersion seasonVersion : seasonVersions) {
+            hash.add(seasonVersion.getId(), seasonVersion.getVersion());
+        }
+        return hash.etag(seasonVersions.size());
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    private static final class ListHash {
+
+        private final MessageDigest digest;
+        private final ByteBuffer row = ByteBuffer.allocate(24);
+
+        private ListHash() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void add(UUID id, long version) {
+            row.clear();
+            row.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).putLong(version);
+            digest.update(row.array());
+        }
+
+        // 128 bits of the digest are plenty to tell two lists apart
+        private String etag(int count) {
+            return "\"" + count + "-" + HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), 16)) + "\"";
+        }
+    }
+}
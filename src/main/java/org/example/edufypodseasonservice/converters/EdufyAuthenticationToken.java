@@ -0,0 +1,29 @@
+package org.example.edufypodseasonservice.converters;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+// The authentication JwtAuthConverter builds for every request. Role and user id are worked out once
+// from the token, UserInfo hands them out for every log line and podcast service call of the request.
+public class EdufyAuthenticationToken extends JwtAuthenticationToken {
+
+    private final String role;
+    private final String userId;
+
+    public EdufyAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, String name) {
+        super(jwt, authorities, name);
+        this.role = UserInfo.roleOf(getAuthorities());
+        this.userId = jwt.getSubject();
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimNames;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.stereotype.Component;
 
@@ -35,7 +34,7 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
                         extractResourceRoles(jwt).stream())
                 .collect(Collectors.toSet());
 
-        return new JwtAuthenticationToken(jwt, authorities, getPrincipalClaimName(jwt));
+        return new EdufyAuthenticationToken(jwt, authorities, getPrincipalClaimName(jwt));
     }
 
     private Collection<? extends GrantedAuthority> extractResourceRoles(Jwt jwt) {
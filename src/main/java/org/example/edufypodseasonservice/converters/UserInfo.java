@@ -1,10 +1,14 @@
 package org.example.edufypodseasonservice.converters;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Iterator;
+
 
 @Component
 public class UserInfo {
@@ -23,16 +27,36 @@ public class UserInfo {
     }
 
     public String getUserId() {
+        if (getAuth() instanceof EdufyAuthenticationToken token) {
+            return token.getUserId();
+        }
         return getJwt().getSubject();
     }
 
 
     public String getRole(){
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return auth.getAuthorities().stream()
-                .findFirst()
-                .map(grantedAuthority -> grantedAuthority.getAuthority().replace("ROLE_", ""))
-                .orElse("NO_ROLE");
+        return roleOf(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    // also used by the reactive read API, which keeps the authentication in the reactor context
+    public static String roleOf(Authentication auth) {
+        if (auth == null) {
+            // background work like the episode link relay runs without a caller
+            return "SYSTEM";
+        }
+        if (auth instanceof EdufyAuthenticationToken token) {
+            // worked out once by JwtAuthConverter, no allocation per call
+            return token.getRole();
+        }
+        return roleOf(auth.getAuthorities());
+    }
+
+    static String roleOf(Collection<? extends GrantedAuthority> authorities) {
+        Iterator<? extends GrantedAuthority> iterator = authorities.iterator();
+        if (!iterator.hasNext()) {
+            return "NO_ROLE";
+        }
+        return iterator.next().getAuthority().replace("ROLE_", "");
     }
 
 }
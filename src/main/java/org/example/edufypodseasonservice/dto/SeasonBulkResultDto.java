@@ -0,0 +1,68 @@
+package org.example.edufypodseasonservice.dto;
+
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+
+// Outcome of one season of a bulk create, index is its position in the request
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeasonBulkResultDto {
+
+    private int index;
+    private int status;
+    private UUID id;
+    private String message;
+
+    public SeasonBulkResultDto() {
+    }
+
+    public SeasonBulkResultDto(int index, int status, UUID id, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonBulkResultDto{" +
+                "index=" + index +
+                ", status=" + status +
+                ", id=" + id +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
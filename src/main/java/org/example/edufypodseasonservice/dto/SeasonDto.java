@@ -1,6 +1,7 @@
 package org.example.edufypodseasonservice.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import java.util.UUID;
@@ -17,6 +18,8 @@ public class SeasonDto {
     private UUID podcastId;
     private String thumbnailUrl;
     private String imageUrl;
+    @JsonIgnore
+    private Long version;
 
     public SeasonDto() {
     }
@@ -85,6 +88,14 @@ public class SeasonDto {
         this.imageUrl = imageUrl;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "SeasonDto{" +
@@ -96,6 +107,7 @@ public class SeasonDto {
                 ", podcastId=" + podcastId +
                 ", thumbnailUrl='" + thumbnailUrl + '\'' +
                 ", imageUrl='" + imageUrl + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
@@ -0,0 +1,60 @@
+package org.example.edufypodseasonservice.dto;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+// Totals of an NDJSON import, errors name the line of the rejected season
+public class SeasonImportResultDto {
+
+    private long imported;
+    private long skipped;
+    private long failed;
+    private List<String> errors = new ArrayList<>();
+
+    public SeasonImportResultDto() {
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonImportResultDto{" +
+                "imported=" + imported +
+                ", skipped=" + skipped +
+                ", failed=" + failed +
+                ", errors=" + errors +
+                '}';
+    }
+}
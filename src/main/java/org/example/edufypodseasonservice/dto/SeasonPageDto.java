@@ -0,0 +1,51 @@
+package org.example.edufypodseasonservice.dto;
+
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeasonPageDto {
+
+    private List<SeasonDto> seasons;
+    private UUID nextPodcastId;
+    private Integer nextSeasonNumber;
+
+    public SeasonPageDto() {
+    }
+
+    public List<SeasonDto> getSeasons() {
+        return seasons;
+    }
+
+    public void setSeasons(List<SeasonDto> seasons) {
+        this.seasons = seasons;
+    }
+
+    public UUID getNextPodcastId() {
+        return nextPodcastId;
+    }
+
+    public void setNextPodcastId(UUID nextPodcastId) {
+        this.nextPodcastId = nextPodcastId;
+    }
+
+    public Integer getNextSeasonNumber() {
+        return nextSeasonNumber;
+    }
+
+    public void setNextSeasonNumber(Integer nextSeasonNumber) {
+        this.nextSeasonNumber = nextSeasonNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "SeasonPageDto{" +
+                "seasons=" + seasons +
+                ", nextPodcastId=" + nextPodcastId +
+                ", nextSeasonNumber=" + nextSeasonNumber +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.edufypodseasonservice.entities;
+
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "episode_link_outbox")
+public class EpisodeLinkEvent {
+
+    public enum Action { LINK, UNLINK }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "season_id", nullable = false)
+    private UUID seasonId;
+    @Column(name = "episode_id", nullable = false)
+    private UUID episodeId;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private Action action;
+    @Column(nullable = false)
+    private Instant createdAt;
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(length = 500)
+    private String lastError;
+    // lease of the relay delivering the event, other relays leave the season alone until it ends
+    private Instant claimedUntil;
+
+
+    public EpisodeLinkEvent() {
+    }
+
+    public EpisodeLinkEvent(UUID seasonId, UUID episodeId, Action action, Instant now) {
+        this.seasonId = seasonId;
+        this.episodeId = episodeId;
+        this.action = action;
+        this.createdAt = now;
+        this.nextAttemptAt = now;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UUID getSeasonId() {
+        return seasonId;
+    }
+
+    public void setSeasonId(UUID seasonId) {
+        this.seasonId = seasonId;
+    }
+
+    public UUID getEpisodeId() {
+        return episodeId;
+    }
+
+    public void setEpisodeId(UUID episodeId) {
+        this.episodeId = episodeId;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public void setAction(Action action) {
+        this.action = action;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    @Override
+    public String toString() {
+        return "EpisodeLinkEvent{" +
+                "id=" + id +
+                ", seasonId=" + seasonId +
+                ", episodeId=" + episodeId +
+                ", action=" + action +
+                ", attempts=" + attempts +
+                ", nextAttemptAt=" + nextAttemptAt +
+                ", claimedUntil=" + claimedUntil +
+                '}';
+    }
+}
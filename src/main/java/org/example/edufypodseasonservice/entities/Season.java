@@ -2,39 +2,48 @@ package org.example.edufypodseasonservice.entities;
 
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Season.PODCAST_SEASON_NUMBER_CONSTRAINT,
+        columnNames = {"podcast_id", "season_number"}))
 public class Season {
 
+    public static final String PODCAST_SEASON_NUMBER_CONSTRAINT = "uk_season_podcast_number";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(name = "season_id", columnDefinition = "char(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @UuidV7
+    @Column(name = "season_id")
     private UUID id;
     @Column(length = 50, nullable = false)
     private String name;
-    @Column(name = "podcast_id", columnDefinition = "char(36)", nullable = false)
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "podcast_id", nullable = false)
     private UUID podcastId;
     @Column(nullable = false)
     private Integer seasonNumber;
     @Column(length = 500, nullable = true)
     private String description;
+    // A set, not a bag: Hibernate can then insert or delete the single row that changed
+    // instead of deleting and re-inserting every episode of the season.
     @ElementCollection
-    @CollectionTable(name = "season_episode_ids", joinColumns = @JoinColumn(name = "season_id"))
-    @Column(name = "episode_id", columnDefinition = "char(36)")
-    @JdbcTypeCode(SqlTypes.CHAR)
-    private List<UUID> episodes = new ArrayList<>();
+    @CollectionTable(name = "season_episode_ids", joinColumns = @JoinColumn(name = "season_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_season_episode", columnNames = {"season_id", "episode_id"}),
+            indexes = @Index(name = "idx_season_episode_episode", columnList = "episode_id"))
+    @Column(name = "episode_id", nullable = false)
+    @OrderBy
+    private Set<UUID> episodes = new LinkedHashSet<>();
     @Column(length = 500)
     private String thumbnailUrl;
     @Column(length = 500)
     private String imageUrl;
+    // bumped by Hibernate on every change, including episode links, and used for ETags. Existing schemas
+    // get the column from db/season-version-migration.sql. Null only until a new season is persisted.
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
 
     public Season() {
@@ -72,11 +81,11 @@ public class Season {
         this.description = description;
     }
 
-    public List<UUID> getEpisodes() {
+    public Set<UUID> getEpisodes() {
         return episodes;
     }
 
-    public void setEpisodes(List<UUID> episodes) {
+    public void setEpisodes(Set<UUID> episodes) {
         this.episodes = episodes;
     }
 
@@ -104,6 +113,14 @@ public class Season {
         this.imageUrl = imageUrl;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Season{" +
@@ -115,6 +132,7 @@ public class Season {
                 ", podcastId=" + podcastId +
                 ", thumbnailUrl='" + thumbnailUrl + '\'' +
                 ", imageUrl='" + imageUrl + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
@@ -2,48 +2,136 @@ package org.example.edufypodseasonservice.external;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.edufypodseasonservice.converters.UserInfo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
 public class EpisodeApiClient {
 
     private final RestClient restClient;
+    private final RestClient existsRestClient;
+    private final RestClient batchRestClient;
     @Value("${episodeExists.api.url}")
     private String episodeExistsApiUrl;
     @Value("${episodeAdd.api.url}")
     private String episodeAddApiUrl;
     @Value("${episodeRemove.api.url}")
     private String episodeRemoveApiUrl;
+    @Value("${episodeBatchExists.api.url:}")
+    private String episodeBatchExistsApiUrl;
+    @Value("${episodeBatchAdd.api.url:}")
+    private String episodeBatchAddApiUrl;
+    @Value("${episodeBatchRemove.api.url:}")
+    private String episodeBatchRemoveApiUrl;
+    // how long to use per-episode calls before asking a podcast service without batch support again
+    @Value("${episode.api.batch-reprobe-interval:PT5M}")
+    private Duration batchReprobeInterval;
     private final UserInfo userInfo;
+    private final EpisodeCallFanOut episodeCallFanOut;
+    private final EpisodeExistsCache episodeExistsCache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private volatile long batchUnsupportedUntil;
+    private static final Set<HttpStatus> BATCH_UNSUPPORTED = Set.of(
+            HttpStatus.NOT_FOUND, HttpStatus.METHOD_NOT_ALLOWED, HttpStatus.NOT_IMPLEMENTED);
+    public static final String EPISODE_SERVICE = "episodeService";
     private static final Logger F_LOG = LogManager.getLogger("functionality");
 
     @Autowired
-    public EpisodeApiClient(RestClient.Builder restClientBuilder, UserInfo userInfo) {
-        this.restClient = restClientBuilder.build();
+    public EpisodeApiClient(RestClient.Builder restClientBuilder, UserInfo userInfo,
+                            EpisodeCallFanOut episodeCallFanOut, CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry, EpisodeHttpTransport episodeHttpTransport,
+                            EpisodeExistsCache episodeExistsCache, MeterRegistry meterRegistry) {
+        this.restClient = restClientBuilder.clone()
+                .requestFactory(episodeHttpTransport.linkRequestFactory())
+                .build();
+        this.existsRestClient = restClientBuilder.clone()
+                .requestFactory(episodeHttpTransport.existsRequestFactory())
+                .build();
+        this.batchRestClient = restClientBuilder.clone()
+                .requestFactory(episodeHttpTransport.batchRequestFactory())
+                .build();
         this.userInfo = userInfo;
+        this.episodeCallFanOut = episodeCallFanOut;
+        this.episodeExistsCache = episodeExistsCache;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(EPISODE_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(EPISODE_SERVICE);
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Every request to the podcast service passes the circuit breaker and the bulkhead,
+    // so calls fail fast while it is unhealthy instead of piling up on request threads.
+    // Each call is timed as episode.client.requests per operation and outcome, rejected calls included.
+    private <T> T guarded(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "UNKNOWN";
+        try {
+            T result = CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call)).get();
+            outcome = "SUCCESS";
+            return result;
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "REJECTED";
+            F_LOG.warn("{}: Call to episode service rejected: {}", userInfo.getRole(), e.getMessage());
+            throw new IllegalStateException("Episode service unavailable: " + e.getMessage(), e);
+        } catch (HttpClientErrorException e) {
+            outcome = "CLIENT_ERROR";
+            throw e;
+        } catch (HttpServerErrorException e) {
+            outcome = "SERVER_ERROR";
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = "IO_ERROR";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("episode.client.requests", "operation", operation, "outcome", outcome));
+        }
     }
 
     public Boolean episodeExists(UUID episodeId) {
+        return episodeExistsCache.get(episodeId, this::fetchEpisodeExists);
+    }
+
+    private Boolean fetchEpisodeExists(UUID episodeId) {
         String role = userInfo.getRole();
         try {
-            ResponseEntity<Boolean>  episodeExistsResponse = restClient.get()
+            ResponseEntity<Boolean>  episodeExistsResponse = guarded("episodeExists", () -> existsRestClient.get()
                     .uri(episodeExistsApiUrl, episodeId)
                     .retrieve()
-                    .toEntity(Boolean.class);
+                    .toEntity(Boolean.class));
             if (episodeExistsResponse.getStatusCode().is2xxSuccessful() && episodeExistsResponse.getBody() != null) {
                 F_LOG.info("{} successfully checked if episode exists.", role);
                 return episodeExistsResponse.getBody();
@@ -61,11 +149,12 @@ public class EpisodeApiClient {
 
     public void removeSeasonFromEpisode(UUID episodeId, UUID seasonId) {
         String role = userInfo.getRole();
+        episodeExistsCache.evict(List.of(episodeId));
         try {
-            ResponseEntity<Void> response = restClient.put()
+            ResponseEntity<Void> response = guarded("removeSeasonFromEpisode", () -> restClient.put()
                     .uri(episodeRemoveApiUrl, episodeId, seasonId)
                     .retrieve()
-                    .toBodilessEntity();
+                    .toBodilessEntity());
             if (response.getStatusCode().is2xxSuccessful()) {
                 F_LOG.info("{} successfully removed season from episode.", role);
             } else {
@@ -104,10 +193,10 @@ public class EpisodeApiClient {
     public void addSeasonToEpisode(UUID episodeId, UUID seasonId) {
         String role = userInfo.getRole();
         try {
-            ResponseEntity<Void> response = restClient.put()
+            ResponseEntity<Void> response = guarded("addSeasonToEpisode", () -> restClient.put()
                     .uri(episodeAddApiUrl, episodeId, seasonId)
                     .retrieve()
-                    .toBodilessEntity();
+                    .toBodilessEntity());
             if (response.getStatusCode().is2xxSuccessful()) {
                 F_LOG.info("{} successfully added season to episode.", role);
             } else {
@@ -142,5 +231,94 @@ public class EpisodeApiClient {
         }
     }
 
+    public Map<UUID, Boolean> episodesExist(List<UUID> episodeIds) {
+        if (episodeIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Boolean> results = new HashMap<>(episodeExistsCache.getAllPresent(episodeIds));
+        List<UUID> missing = episodeIds.stream().filter(episodeId -> !results.containsKey(episodeId)).distinct().toList();
+        if (missing.isEmpty()) {
+            return results;
+        }
+        Map<UUID, Boolean> fetched = sendBatch("episodesExist", episodeBatchExistsApiUrl, null, missing, "check if episodes exist");
+        if (fetched != null) {
+            episodeExistsCache.putAll(fetched);
+        } else {
+            Map<UUID, Boolean> single = new ConcurrentHashMap<>();
+            episodeCallFanOut.forEachEpisode(missing, episodeId -> single.put(episodeId, episodeExists(episodeId)));
+            fetched = single;
+        }
+        results.putAll(fetched);
+        return results;
+    }
+
+    public void addSeasonToEpisodes(List<UUID> episodeIds, UUID seasonId) {
+        if (episodeIds.isEmpty()) {
+            return;
+        }
+        if (sendBatch("addSeasonToEpisodes", episodeBatchAddApiUrl, seasonId, episodeIds, "add season to episodes") != null) {
+            return;
+        }
+        episodeCallFanOut.forEachEpisode(episodeIds, episodeId -> addSeasonToEpisode(episodeId, seasonId));
+    }
 
+    public void removeSeasonFromEpisodes(List<UUID> episodeIds, UUID seasonId) {
+        if (episodeIds.isEmpty()) {
+            return;
+        }
+        episodeExistsCache.evict(episodeIds);
+        if (sendBatch("removeSeasonFromEpisodes", episodeBatchRemoveApiUrl, seasonId, episodeIds, "remove season from episodes") != null) {
+            return;
+        }
+        episodeCallFanOut.forEachEpisode(episodeIds, episodeId -> removeSeasonFromEpisode(episodeId, seasonId));
+    }
+
+    // Returns null when the podcast service has no batch endpoint, so the caller falls back to single calls.
+    // Exists checks POST the ids and get a map back, link/unlink PUT the ids for one season.
+    private Map<UUID, Boolean> sendBatch(String operation, String url, UUID seasonId, List<UUID> episodeIds, String action) {
+        if (url == null || url.isBlank() || System.currentTimeMillis() < batchUnsupportedUntil) {
+            return null;
+        }
+        String role = userInfo.getRole();
+        try {
+            Map<UUID, Boolean> result;
+            if (seasonId == null) {
+                result = guarded(operation, () -> batchRestClient.post()
+                        .uri(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(episodeIds)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<Map<UUID, Boolean>>() {}));
+                if (result == null) {
+                    throw new IllegalStateException("Empty response when trying to " + action);
+                }
+            } else {
+                guarded(operation, () -> batchRestClient.put()
+                        .uri(url, seasonId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(episodeIds)
+                        .retrieve()
+                        .toBodilessEntity());
+                result = Map.of();
+            }
+            F_LOG.info("{} successfully did batch call to {} for {} episodes.", role, action, episodeIds.size());
+            return result;
+        } catch (HttpStatusCodeException e) {
+            if (BATCH_UNSUPPORTED.contains(HttpStatus.resolve(e.getStatusCode().value()))) {
+                batchUnsupportedUntil = System.currentTimeMillis() + batchReprobeInterval.toMillis();
+                F_LOG.warn("{}: Batch call to {} not supported ({}), using single episode calls.",
+                        role, action, e.getStatusCode());
+                return null;
+            }
+            F_LOG.warn("{}: Failed batch call to {}. error: {}", role, action, e.getStatusCode());
+            throw new IllegalStateException(
+                    String.format("Failed to %s. Status %s", action, e.getStatusCode()), e);
+        } catch (ResourceAccessException ex) {
+            F_LOG.warn("{}: Failed batch call to {}. error: {}", role, action, ex.getMessage());
+            throw new IllegalStateException("Could not connect to episode service: " + ex.getMessage(), ex);
+        } catch (RestClientException ex) {
+            F_LOG.warn("{}: Failed batch call to {}. error: {}", role, action, ex.getMessage());
+            throw new IllegalStateException("Unexpected error calling episode service", ex);
+        }
+    }
 }
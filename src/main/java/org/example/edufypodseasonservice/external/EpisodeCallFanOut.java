@@ -0,0 +1,53 @@
+package org.example.edufypodseasonservice.external;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+// Runs one episode service call per episode on virtual threads, at most maxParallelCalls at a time.
+// A failed call doesn't cancel the others, all failures are reported together in an EpisodeSyncException.
+@Component
+public class EpisodeCallFanOut {
+
+    private final int maxParallelCalls;
+
+    public EpisodeCallFanOut(@Value("${episode.api.max-parallel-calls:16}") int maxParallelCalls) {
+        this.maxParallelCalls = maxParallelCalls;
+    }
+
+    public void forEachEpisode(Collection<UUID> episodeIds, Consumer<UUID> call) {
+        if (episodeIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, String> failures = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(maxParallelCalls);
+        // the security context is copied to each task since EpisodeApiClient logs the caller role
+        try (ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newVirtualThreadPerTaskExecutor())) {
+            for (UUID episodeId : episodeIds) {
+                executor.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        call.accept(episodeId);
+                    } catch (RuntimeException e) {
+                        failures.put(episodeId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new EpisodeSyncException(failures, episodeIds.size());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.edufypodseasonservice.external;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// Episode existence answers from the podcast service. Missing episodes are kept for a shorter time than
+// existing ones so a newly published episode becomes usable quickly. Concurrent misses for the same id
+// share one remote call, which runs on the first caller's thread outside of any cache lock.
+@Component
+public class EpisodeExistsCache {
+
+    private final AsyncCache<UUID, Boolean> cache;
+
+    @Autowired
+    public EpisodeExistsCache(@Value("${episode.api.exists-cache.positive-ttl:10m}") Duration positiveTtl,
+                              @Value("${episode.api.exists-cache.negative-ttl:30s}") Duration negativeTtl,
+                              @Value("${episode.api.exists-cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this(positiveTtl, negativeTtl, maxSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    EpisodeExistsCache(Duration positiveTtl, Duration negativeTtl, long maxSize, MeterRegistry meterRegistry, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<UUID, Boolean>writing((episodeId, exists) -> exists ? positiveTtl : negativeTtl))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "episodeExists");
+        Gauge.builder("episode.exists.cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .description("Share of episode exists lookups answered without calling the podcast service")
+                .register(meterRegistry);
+    }
+
+    public boolean get(UUID episodeId, Function<UUID, Boolean> loader) {
+        CompletableFuture<Boolean> loading = new CompletableFuture<>();
+        CompletableFuture<Boolean> cached = cache.get(episodeId, (id, executor) -> loading);
+        if (cached != loading) {
+            try {
+                return cached.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Boolean exists = loader.apply(episodeId);
+            loading.complete(exists);
+            return exists;
+        } catch (RuntimeException e) {
+            // failed lookups are dropped from the cache by Caffeine, waiting callers get the same error
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Map<UUID, Boolean> getAllPresent(Collection<UUID> episodeIds) {
+        return cache.synchronous().getAllPresent(episodeIds);
+    }
+
+    public void putAll(Map<UUID, Boolean> results) {
+        cache.synchronous().putAll(results);
+    }
+
+    public void evict(Collection<UUID> episodeIds) {
+        cache.synchronous().invalidateAll(episodeIds);
+    }
+}
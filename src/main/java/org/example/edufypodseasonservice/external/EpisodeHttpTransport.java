@@ -0,0 +1,117 @@
+package org.example.edufypodseasonservice.external;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// Shared HTTP connection pool for the podcast service. "jdk" uses java.net.http.HttpClient and
+// negotiates HTTP/2 when the podcast service offers it, "apache" uses a pooled HttpClient 5 with
+// explicit pool limits and idle eviction. Each operation gets a request factory with its own timeout.
+// max-connections and idle-timeout only configure the apache pool: the JDK client has no per-client pool
+// settings, its limits are the JVM-wide jdk.httpclient.* flags (see JAVA_TOOL_OPTIONS in the Dockerfile).
+// In virtual-thread mode the JDK client also does its own work on virtual threads instead of a
+// cached platform pool; the apache client blocks the calling thread, which is then virtual as well.
+@Component
+public class EpisodeHttpTransport implements DisposableBean {
+
+    private final String transport;
+    private final Duration existsTimeout;
+    private final Duration linkTimeout;
+    private final Duration batchTimeout;
+    private final HttpClient jdkClient;
+    private final CloseableHttpClient apacheClient;
+
+    public EpisodeHttpTransport(@Value("${episode.api.http.transport:jdk}") String transport,
+                                @Value("${episode.api.http.http2:true}") boolean http2,
+                                @Value("${episode.api.http.connect-timeout:2s}") Duration connectTimeout,
+                                @Value("${episode.api.http.exists-timeout:2s}") Duration existsTimeout,
+                                @Value("${episode.api.http.link-timeout:5s}") Duration linkTimeout,
+                                @Value("${episode.api.http.batch-timeout:30s}") Duration batchTimeout,
+                                @Value("${episode.api.http.max-connections:50}") int maxConnections,
+                                @Value("${episode.api.http.idle-timeout:30s}") Duration idleTimeout,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.transport = transport;
+        this.existsTimeout = existsTimeout;
+        this.linkTimeout = linkTimeout;
+        this.batchTimeout = batchTimeout;
+        switch (transport) {
+            case "jdk" -> {
+                HttpClient.Builder builder = HttpClient.newBuilder()
+                        .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(connectTimeout);
+                if (virtualThreads) {
+                    builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+                }
+                this.jdkClient = builder.build();
+                this.apacheClient = null;
+            }
+            case "apache" -> {
+                this.jdkClient = null;
+                this.apacheClient = HttpClients.custom()
+                        .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                                .setMaxConnTotal(maxConnections)
+                                .setMaxConnPerRoute(maxConnections)
+                                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                        .setConnectTimeout(Timeout.of(connectTimeout))
+                                        .build())
+                                .build())
+                        .evictIdleConnections(TimeValue.of(idleTimeout))
+                        .evictExpiredConnections()
+                        .build();
+            }
+            default -> throw new IllegalArgumentException(
+                    "episode.api.http.transport must be jdk or apache, was: " + transport);
+        }
+    }
+
+    public ClientHttpRequestFactory existsRequestFactory() {
+        return requestFactory(existsTimeout);
+    }
+
+    public ClientHttpRequestFactory linkRequestFactory() {
+        return requestFactory(linkTimeout);
+    }
+
+    public ClientHttpRequestFactory batchRequestFactory() {
+        return requestFactory(batchTimeout);
+    }
+
+    private ClientHttpRequestFactory requestFactory(Duration readTimeout) {
+        if (jdkClient != null) {
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(jdkClient);
+            requestFactory.setReadTimeout(readTimeout);
+            return requestFactory;
+        }
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(apacheClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    public String getTransport() {
+        return transport;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (apacheClient != null) {
+            apacheClient.close();
+        }
+        if (jdkClient != null) {
+            jdkClient.close();
+        }
+    }
+}
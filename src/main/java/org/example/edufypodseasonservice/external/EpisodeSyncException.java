@@ -0,0 +1,19 @@
+package org.example.edufypodseasonservice.external;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class EpisodeSyncException extends IllegalStateException {
+
+    private final Map<UUID, String> failedEpisodes;
+
+    public EpisodeSyncException(Map<UUID, String> failedEpisodes, int totalEpisodes) {
+        super(String.format("Episode service calls failed for %d of %d episodes: %s",
+                failedEpisodes.size(), totalEpisodes, failedEpisodes));
+        this.failedEpisodes = Map.copyOf(failedEpisodes);
+    }
+
+    public Map<UUID, String> getFailedEpisodes() {
+        return failedEpisodes;
+    }
+}
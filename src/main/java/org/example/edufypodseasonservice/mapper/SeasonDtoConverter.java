@@ -5,6 +5,8 @@ import org.example.edufypodseasonservice.dto.SeasonDto;
 import org.example.edufypodseasonservice.entities.Season;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+
 @Component
 public class SeasonDtoConverter {
 
@@ -15,10 +17,11 @@ public class SeasonDtoConverter {
         seasonDto.setName(season.getName());
         seasonDto.setSeasonNumber(season.getSeasonNumber());
         seasonDto.setDescription(season.getDescription());
-        seasonDto.setEpisodes(season.getEpisodes());
+        seasonDto.setEpisodes(new ArrayList<>(season.getEpisodes()));
         seasonDto.setPodcastId(season.getPodcastId());
         seasonDto.setThumbnailUrl(season.getThumbnailUrl());
         seasonDto.setImageUrl(season.getImageUrl());
+        seasonDto.setVersion(season.getVersion());
         return seasonDto;
     }
 
@@ -29,6 +32,7 @@ public class SeasonDtoConverter {
         seasonDto.setSeasonNumber(season.getSeasonNumber());
         seasonDto.setPodcastId(season.getPodcastId());
         seasonDto.setThumbnailUrl(season.getThumbnailUrl());
+        seasonDto.setVersion(season.getVersion());
         return seasonDto;
     }
 
@@ -0,0 +1,40 @@
+package org.example.edufypodseasonservice.repositories;
+
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.edufypodseasonservice.entities.EpisodeLinkEvent;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EpisodeLinkEventRepository extends JpaRepository<EpisodeLinkEvent, Long> {
+
+    // due, unleased events in write order, locked FOR UPDATE SKIP LOCKED (lock timeout -2) so relays on
+    // other instances skip the rows instead of waiting. Events that used up their attempts are left for inspection.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select e from EpisodeLinkEvent e where e.attempts < :maxAttempts and e.nextAttemptAt <= :now " +
+            "and (e.claimedUntil is null or e.claimedUntil < :now) order by e.id asc")
+    List<EpisodeLinkEvent> findDueForClaim(int maxAttempts, Instant now, Limit limit);
+
+    // events of these seasons outside the claimed ones that are leased or due, i.e. possibly held by another relay
+    @Query("select e from EpisodeLinkEvent e where e.seasonId in :seasonIds and e.id not in :claimedIds " +
+            "and e.attempts < :maxAttempts and (e.claimedUntil >= :now or e.nextAttemptAt <= :now)")
+    List<EpisodeLinkEvent> findPendingBySeasonIdIn(Collection<UUID> seasonIds, Collection<Long> claimedIds,
+                                                  int maxAttempts, Instant now);
+
+    // events of these seasons that wait for a retry, a newer event for the same episode supersedes them
+    List<EpisodeLinkEvent> findBySeasonIdInAndAttemptsLessThanAndNextAttemptAtAfter(
+            Collection<UUID> seasonIds, int maxAttempts, Instant now);
+}
@@ -0,0 +1,12 @@
+package org.example.edufypodseasonservice.repositories;
+
+
+import org.example.edufypodseasonservice.entities.Season;
+
+import java.util.UUID;
+
+public interface EpisodeSeason {
+
+    UUID getEpisodeId();
+    Season getSeason();
+}
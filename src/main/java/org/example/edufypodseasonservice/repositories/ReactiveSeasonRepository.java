@@ -0,0 +1,142 @@
+package org.example.edufypodseasonservice.repositories;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.example.edufypodseasonservice.entities.Season;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+// Non-blocking versions of the SeasonRepository reads behind the reactive read API, in plain SQL on
+// the tables Hibernate maps. UUID columns are read and bound the way season.uuid-storage stores them.
+// The pool is owned here and not published as a ConnectionFactory bean, see EdufyPodSeasonServiceApplication.
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSeasonRepository implements DisposableBean {
+
+    private static final String SEASON_COLUMNS = "s.season_id, s.name, s.season_number, s.description, " +
+            "s.podcast_id, s.thumbnail_url, s.image_url, s.version";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final boolean binaryUuids;
+
+    @Autowired
+    public ReactiveSeasonRepository(@Value("${spring.r2dbc.url}") String url,
+                                    @Value("${spring.r2dbc.username:}") String username,
+                                    @Value("${spring.r2dbc.password:}") String password,
+                                    @Value("${spring.r2dbc.pool.max-size:10}") int maxSize,
+                                    @Value("${season.uuid-storage:char}") String uuidStorage) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.binaryUuids = "binary".equalsIgnoreCase(uuidStorage);
+    }
+
+    // without episodes, like the limited listing reads them
+    public Flux<Season> findAllByOrderByPodcastIdAscSeasonNumberAsc() {
+        return databaseClient.sql("select " + SEASON_COLUMNS + " from season s order by s.podcast_id, s.season_number")
+                .map(this::season)
+                .all();
+    }
+
+    public Flux<Season> findByPodcastIdOrderBySeasonNumberAsc(UUID podcastId) {
+        return withEpisodes(databaseClient.sql("select " + SEASON_COLUMNS + ", e.episode_id from season s " +
+                        "left join season_episode_ids e on e.season_id = s.season_id " +
+                        "where s.podcast_id = :podcastId order by s.season_number, e.episode_id")
+                .bind("podcastId", uuidParameter(podcastId)));
+    }
+
+    public Mono<Season> findFirstByPodcastIdOrderBySeasonNumberDesc(UUID podcastId) {
+        return withEpisodes(databaseClient.sql("select " + SEASON_COLUMNS + ", e.episode_id from season s " +
+                        "left join season_episode_ids e on e.season_id = s.season_id " +
+                        "where s.podcast_id = :podcastId " +
+                        "and s.season_number = (select max(season_number) from season where podcast_id = :podcastId) " +
+                        "order by e.episode_id")
+                .bind("podcastId", uuidParameter(podcastId)))
+                .next();
+    }
+
+    // one row per episode, ordered so the rows of a season are adjacent and its episodes come in
+    // the order of @OrderBy on Season.episodes
+    private Flux<Season> withEpisodes(DatabaseClient.GenericExecuteSpec query) {
+        return query.map(row -> new SeasonRow(season(row), uuid(row.get("episode_id"))))
+                .all()
+                .bufferUntilChanged(seasonRow -> seasonRow.season().getId())
+                .map(this::toSeason);
+    }
+
+    private Season toSeason(List<SeasonRow> seasonRows) {
+        Season season = seasonRows.get(0).season();
+        for (SeasonRow seasonRow : seasonRows) {
+            if (seasonRow.episodeId() != null) {
+                season.getEpisodes().add(seasonRow.episodeId());
+            }
+        }
+        return season;
+    }
+
+    private Season season(Readable row) {
+        Season season = new Season();
+        season.setId(uuid(row.get("season_id")));
+        season.setName(row.get("name", String.class));
+        season.setSeasonNumber(row.get("season_number", Integer.class));
+        season.setDescription(row.get("description", String.class));
+        season.setPodcastId(uuid(row.get("podcast_id")));
+        season.setThumbnailUrl(row.get("thumbnail_url", String.class));
+        season.setImageUrl(row.get("image_url", String.class));
+        season.setVersion(row.get("version", Long.class));
+        return season;
+    }
+
+    private Object uuidParameter(UUID uuid) {
+        if (!binaryUuids) {
+            return uuid.toString();
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    // drivers hand out binary(16) as byte[] or ByteBuffer and char(36) as String
+    private static UUID uuid(Object value) {
+        return switch (value) {
+            case null -> null;
+            case UUID uuid -> uuid;
+            case byte[] bytes -> uuid(ByteBuffer.wrap(bytes));
+            case ByteBuffer buffer -> new UUID(buffer.getLong(buffer.position()), buffer.getLong(buffer.position() + 8));
+            case String string -> UUID.fromString(string);
+            default -> throw new IllegalStateException("Unexpected UUID column type " + value.getClass().getName());
+        };
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private record SeasonRow(Season season, UUID episodeId) {
+    }
+}
@@ -2,19 +2,79 @@ package org.example.edufypodseasonservice.repositories;
 
 
 import org.example.edufypodseasonservice.entities.Season;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface SeasonRepository extends JpaRepository<Season, UUID> {
+public interface SeasonRepository extends JpaRepository<Season, UUID>, SeasonStreamRepository {
 
-    boolean existsByPodcastIdAndSeasonNumber(UUID podcastId, Integer seasonNumber);
     List<Season> findAllByOrderByPodcastIdAscSeasonNumberAsc();
+    List<Season> findAllByOrderByPodcastIdAscSeasonNumberAsc(Limit limit); // first keyset page
+
+    @Query("select s from Season s where s.podcastId > :podcastId " +
+            "or (s.podcastId = :podcastId and s.seasonNumber > :seasonNumber) " +
+            "order by s.podcastId asc, s.seasonNumber asc")
+    List<Season> findSeasonsAfter(UUID podcastId, Integer seasonNumber, Limit limit); // next keyset page
+
+    // limited listings leave the episodes out, so they don't fetch them either
     List<Season> findByPodcastIdOrderBySeasonNumberAsc(UUID podcastId);
+
+    // episodes are fetched in the same query so full listings don't lazy load them per season
+    @EntityGraph(attributePaths = "episodes")
+    List<Season> findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(UUID podcastId);
+
+    @NonNull
+    @Override
+    @EntityGraph(attributePaths = "episodes")
+    Optional<Season> findById(@NonNull UUID seasonId);
+
+    // both resolve through the episode_id index on season_episode_ids
+    @Query("select s from Season s join s.episodes e where e = :episodeId " +
+            "order by s.podcastId asc, s.seasonNumber asc")
+    List<Season> findByEpisodeId(UUID episodeId);
+
+    @Query("select e as episodeId, s as season from Season s join s.episodes e where e in :episodeIds " +
+            "order by s.podcastId asc, s.seasonNumber asc")
+    List<EpisodeSeason> findByEpisodeIdIn(Collection<UUID> episodeIds);
+
+    // answered from the unique (podcast_id, season_number) index
+    @Query("select s.podcastId as podcastId, s.seasonNumber as seasonNumber from Season s " +
+            "where s.podcastId in :podcastIds")
+    List<PodcastSeasonNumber> findSeasonNumbersByPodcastIdIn(Collection<UUID> podcastIds);
+
+    @Query("select s.id from Season s where s.id in :seasonIds")
+    List<UUID> findExistingIds(Collection<UUID> seasonIds);
+
+    // list ETags, checked against If-None-Match before any season or episode is loaded. Only id and
+    // version of each row, in the order of the list they stand for.
+    @Query("select s.id as id, s.version as version from Season s order by s.podcastId asc, s.seasonNumber asc")
+    List<SeasonVersion> findVersions();
+
+    @Query("select s.id as id, s.version as version from Season s where s.podcastId = :podcastId " +
+            "order by s.seasonNumber asc")
+    List<SeasonVersion> findVersionsByPodcastId(UUID podcastId);
+
+    @Query("select s.id as id, s.version as version from Season s join s.episodes e where e = :episodeId " +
+            "order by s.podcastId asc, s.seasonNumber asc")
+    List<SeasonVersion> findVersionsByEpisodeId(UUID episodeId);
+
+    @Query("select s.id as id, s.version as version from Season s order by s.podcastId asc, s.seasonNumber asc")
+    List<SeasonVersion> findPageVersions(Limit limit);
+
+    @Query("select s.id as id, s.version as version from Season s where s.podcastId > :podcastId " +
+            "or (s.podcastId = :podcastId and s.seasonNumber > :seasonNumber) " +
+            "order by s.podcastId asc, s.seasonNumber asc")
+    List<SeasonVersion> findPageVersionsAfter(UUID podcastId, Integer seasonNumber, Limit limit);
+
     Optional<Season> findFirstByPodcastIdOrderBySeasonNumberAsc(UUID podcastId); // first
     Optional<Season> findFirstByPodcastIdOrderBySeasonNumberDesc(UUID podcastId); // latest
 }
@@ -0,0 +1,17 @@
+package org.example.edufypodseasonservice.repositories;
+
+
+import org.example.edufypodseasonservice.entities.Season;
+
+import java.util.stream.Stream;
+
+// Whole-table reads that are written out while the rows arrive. Both must be consumed inside a
+// transaction, the connection stays checked out until the stream is closed.
+public interface SeasonStreamRepository {
+
+    Stream<Season> streamAllByOrderByPodcastIdAscSeasonNumberAsc();
+
+    // the episodes are joined in, the rows of one season are adjacent so Hibernate hands out each
+    // season once all its episode rows have been read
+    Stream<Season> streamAllWithEpisodes();
+}
@@ -0,0 +1,44 @@
+package org.example.edufypodseasonservice.repositories;
+
+
+import jakarta.persistence.EntityManager;
+import org.example.edufypodseasonservice.entities.Season;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+// The fetch size is set on these two statements only. MySQL Connector/J ignores a positive fetch size
+// unless useCursorFetch is on for the whole connection, which also turns every other statement into a
+// server-side prepared one. Integer.MIN_VALUE (season.stream.fetch-size in the MySQL profiles) makes it
+// stream the rows of just this result set instead.
+public class SeasonStreamRepositoryImpl implements SeasonStreamRepository {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    @Autowired
+    public SeasonStreamRepositoryImpl(EntityManager entityManager,
+                                      @Value("${season.stream.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<Season> streamAllByOrderByPodcastIdAscSeasonNumberAsc() {
+        return stream("select s from Season s order by s.podcastId asc, s.seasonNumber asc");
+    }
+
+    @Override
+    public Stream<Season> streamAllWithEpisodes() {
+        return stream("select s from Season s left join fetch s.episodes order by s.podcastId asc, s.seasonNumber asc");
+    }
+
+    private Stream<Season> stream(String query) {
+        return entityManager.createQuery(query, Season.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
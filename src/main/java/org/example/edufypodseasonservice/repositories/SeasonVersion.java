@@ -0,0 +1,10 @@
+package org.example.edufypodseasonservice.repositories;
+
+
+import java.util.UUID;
+
+public interface SeasonVersion {
+
+    UUID getId();
+    Long getVersion();
+}
@@ -0,0 +1,52 @@
+package org.example.edufypodseasonservice.services;
+
+
+import org.example.edufypodseasonservice.entities.EpisodeLinkEvent;
+import org.example.edufypodseasonservice.repositories.EpisodeLinkEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Records episode link changes in the caller's transaction, EpisodeLinkRelay delivers them after commit.
+@Component
+public class EpisodeLinkOutbox {
+
+    private final EpisodeLinkEventRepository episodeLinkEventRepository;
+    private final Clock clock;
+
+    @Autowired
+    public EpisodeLinkOutbox(EpisodeLinkEventRepository episodeLinkEventRepository) {
+        this(episodeLinkEventRepository, Clock.systemUTC());
+    }
+
+    EpisodeLinkOutbox(EpisodeLinkEventRepository episodeLinkEventRepository, Clock clock) {
+        this.episodeLinkEventRepository = episodeLinkEventRepository;
+        this.clock = clock;
+    }
+
+    public void link(UUID seasonId, Collection<UUID> episodeIds) {
+        record(seasonId, episodeIds, EpisodeLinkEvent.Action.LINK);
+    }
+
+    public void unlink(UUID seasonId, Collection<UUID> episodeIds) {
+        record(seasonId, episodeIds, EpisodeLinkEvent.Action.UNLINK);
+    }
+
+    private void record(UUID seasonId, Collection<UUID> episodeIds, EpisodeLinkEvent.Action action) {
+        if (episodeIds.isEmpty()) {
+            return;
+        }
+        Instant now = clock.instant();
+        List<EpisodeLinkEvent> events = new ArrayList<>(episodeIds.size());
+        for (UUID episodeId : episodeIds) {
+            events.add(new EpisodeLinkEvent(seasonId, episodeId, action, now));
+        }
+        episodeLinkEventRepository.saveAll(events);
+    }
+}
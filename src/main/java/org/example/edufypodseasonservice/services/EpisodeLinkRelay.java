@@ -0,0 +1,188 @@
+package org.example.edufypodseasonservice.services;
+
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.edufypodseasonservice.entities.EpisodeLinkEvent;
+import org.example.edufypodseasonservice.external.EpisodeApiClient;
+import org.example.edufypodseasonservice.external.EpisodeSyncException;
+import org.example.edufypodseasonservice.repositories.EpisodeLinkEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Delivers outbox events to the podcast service outside of any season transaction.
+// Only the latest event per (season, episode) is sent, link and unlink are idempotent so
+// redelivery after a crash is harmless. Failed events are retried with exponential backoff,
+// older events for the same episode that still wait for their retry are dropped so they can't
+// be replayed after a newer one.
+// Every instance runs the relay, so each pass first claims its batch: the due rows are locked with
+// SKIP LOCKED and leased for claim-lease, and a season is only taken when no other relay holds one of
+// its events. One relay at a time therefore delivers a season, in id order.
+@Component
+public class EpisodeLinkRelay {
+
+    private record Link(UUID seasonId, UUID episodeId) {
+    }
+
+    private record Call(UUID seasonId, EpisodeLinkEvent.Action action) {
+    }
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Logger F_LOG = LogManager.getLogger("functionality");
+
+    private final EpisodeLinkEventRepository episodeLinkEventRepository;
+    private final EpisodeApiClient episodeApiClient;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration claimLease;
+
+    @Autowired
+    public EpisodeLinkRelay(EpisodeLinkEventRepository episodeLinkEventRepository, EpisodeApiClient episodeApiClient,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${episode.outbox.batch-size:500}") int batchSize,
+                            @Value("${episode.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${episode.outbox.claim-lease:PT5M}") Duration claimLease) {
+        this(episodeLinkEventRepository, episodeApiClient, new TransactionTemplate(transactionManager),
+                Clock.systemUTC(), batchSize, maxAttempts, claimLease);
+    }
+
+    EpisodeLinkRelay(EpisodeLinkEventRepository episodeLinkEventRepository, EpisodeApiClient episodeApiClient,
+                     TransactionOperations transactionOperations, Clock clock, int batchSize, int maxAttempts,
+                     Duration claimLease) {
+        this.episodeLinkEventRepository = episodeLinkEventRepository;
+        this.episodeApiClient = episodeApiClient;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimLease = claimLease;
+    }
+
+    @Scheduled(fixedDelayString = "${episode.outbox.relay-interval:PT1S}")
+    public void relay() {
+        Instant now = clock.instant();
+        List<EpisodeLinkEvent> events = transactionOperations.execute(status -> claim(now));
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        Map<Link, EpisodeLinkEvent> latest = new LinkedHashMap<>();
+        for (EpisodeLinkEvent event : events) {
+            latest.put(new Link(event.getSeasonId(), event.getEpisodeId()), event);
+        }
+        Map<Call, List<UUID>> calls = new LinkedHashMap<>();
+        for (EpisodeLinkEvent event : latest.values()) {
+            calls.computeIfAbsent(new Call(event.getSeasonId(), event.getAction()), call -> new ArrayList<>())
+                    .add(event.getEpisodeId());
+        }
+
+        Map<Link, String> failures = new HashMap<>();
+        for (Map.Entry<Call, List<UUID>> call : calls.entrySet()) {
+            UUID seasonId = call.getKey().seasonId();
+            try {
+                if (call.getKey().action() == EpisodeLinkEvent.Action.LINK) {
+                    episodeApiClient.addSeasonToEpisodes(call.getValue(), seasonId);
+                } else {
+                    episodeApiClient.removeSeasonFromEpisodes(call.getValue(), seasonId);
+                }
+            } catch (EpisodeSyncException e) {
+                e.getFailedEpisodes().forEach((episodeId, error) -> failures.put(new Link(seasonId, episodeId), error));
+            } catch (RuntimeException e) {
+                for (UUID episodeId : call.getValue()) {
+                    failures.put(new Link(seasonId, episodeId), String.valueOf(e.getMessage()));
+                }
+            }
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<EpisodeLinkEvent> retry = new ArrayList<>();
+        List<UUID> seasonIds = latest.keySet().stream().map(Link::seasonId).distinct().toList();
+        for (EpisodeLinkEvent waiting : episodeLinkEventRepository
+                .findBySeasonIdInAndAttemptsLessThanAndNextAttemptAtAfter(seasonIds, maxAttempts, now)) {
+            EpisodeLinkEvent newer = latest.get(new Link(waiting.getSeasonId(), waiting.getEpisodeId()));
+            if (newer != null && waiting.getId() < newer.getId()) {
+                done.add(waiting.getId());
+            }
+        }
+        for (EpisodeLinkEvent event : events) {
+            Link link = new Link(event.getSeasonId(), event.getEpisodeId());
+            String error = failures.get(link);
+            if (error != null && latest.get(link) == event) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+                event.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+                event.setClaimedUntil(null);
+                retry.add(event);
+            } else {
+                done.add(event.getId());
+            }
+        }
+        episodeLinkEventRepository.deleteAllByIdInBatch(done);
+        episodeLinkEventRepository.saveAll(retry);
+
+        if (retry.isEmpty()) {
+            F_LOG.info("Relayed {} episode link events.", events.size());
+        } else {
+            F_LOG.warn("Relayed {} episode link events, {} failed and will be retried.", done.size(), retry.size());
+        }
+    }
+
+    // Locks the due rows (other relays skip them) and keeps the seasons no other relay works on: one with
+    // a leased event, or with a due event older than ours that was skipped because another relay locked it.
+    // The kept events are leased, so the season stays taken after the lock is released on commit.
+    private List<EpisodeLinkEvent> claim(Instant now) {
+        List<EpisodeLinkEvent> due = episodeLinkEventRepository.findDueForClaim(maxAttempts, now, Limit.of(batchSize));
+        if (due.isEmpty()) {
+            return due;
+        }
+        Map<UUID, Long> firstIds = new HashMap<>();
+        for (EpisodeLinkEvent event : due) {
+            firstIds.putIfAbsent(event.getSeasonId(), event.getId());
+        }
+        List<Long> dueIds = due.stream().map(EpisodeLinkEvent::getId).toList();
+        Set<UUID> taken = new HashSet<>();
+        for (EpisodeLinkEvent other : episodeLinkEventRepository
+                .findPendingBySeasonIdIn(firstIds.keySet(), dueIds, maxAttempts, now)) {
+            boolean leased = other.getClaimedUntil() != null && !other.getClaimedUntil().isBefore(now);
+            if (leased || other.getId() < firstIds.get(other.getSeasonId())) {
+                taken.add(other.getSeasonId());
+            }
+        }
+        List<EpisodeLinkEvent> claimed = new ArrayList<>();
+        for (EpisodeLinkEvent event : due) {
+            if (!taken.contains(event.getSeasonId())) {
+                event.setClaimedUntil(now.plus(claimLease));
+                claimed.add(event);
+            }
+        }
+        episodeLinkEventRepository.saveAll(claimed);
+        if (!taken.isEmpty()) {
+            F_LOG.info("Skipped {} seasons with episode link events held by another relay.", taken.size());
+        }
+        return claimed;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.edufypodseasonservice.services;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.mapper.SeasonDtoConverter;
+import org.example.edufypodseasonservice.repositories.ReactiveSeasonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// The season reads of SeasonServiceImpl for the reactive profile. Seasons are converted and written
+// out one at a time as the rows arrive. There is no local season cache here: reactive pods serve
+// reads only, so they would never see the writes that evict it.
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSeasonService {
+
+    private static final Logger F_LOG = LogManager.getLogger("functionality");
+
+    private final ReactiveSeasonRepository reactiveSeasonRepository;
+    private final SeasonDtoConverter seasonDtoConverter;
+
+    @Autowired
+    public ReactiveSeasonService(ReactiveSeasonRepository reactiveSeasonRepository, SeasonDtoConverter seasonDtoConverter) {
+        this.reactiveSeasonRepository = reactiveSeasonRepository;
+        this.seasonDtoConverter = seasonDtoConverter;
+    }
+
+    public Flux<SeasonDto> getAllSeasons() {
+        return role().flatMapMany(role -> reactiveSeasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc()
+                .map(seasonDtoConverter::seasonLimitedDtoConvert)
+                .doOnComplete(() -> F_LOG.info("{} retrieved all seasons.", role)));
+    }
+
+    public Flux<SeasonDto> getSeasonsByPodcast(UUID podcastId, boolean full) {
+        return role().flatMapMany(role -> reactiveSeasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId)
+                .map(season -> full
+                        ? seasonDtoConverter.seasonFullDtoConvert(season)
+                        : seasonDtoConverter.seasonLimitedDtoConvert(season))
+                .doOnComplete(() -> F_LOG.info("{} retrieved all seasons of podcast: {}.", role, podcastId)));
+    }
+
+    public Mono<SeasonDto> getLatestSeason(UUID podcastId) {
+        return role().flatMap(role -> reactiveSeasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(podcastId)
+                .map(seasonDtoConverter::seasonFullDtoConvert)
+                .doOnNext(seasonDto -> F_LOG.info("{} retrieved season with id {}.", role, seasonDto.getId()))
+                .switchIfEmpty(Mono.defer(() -> {
+                    F_LOG.warn("{} tried to retrieve a season that doesn't exist.", role);
+                    return Mono.error(new ResponseStatusException(
+                            HttpStatus.NOT_FOUND,
+                            String.format("No season exists for podcastId: %s.", podcastId)
+                    ));
+                })));
+    }
+
+    private Mono<String> role() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(UserInfo::roleOf)
+                .defaultIfEmpty(UserInfo.roleOf(null));
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.edufypodseasonservice.services;
+
+
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Readers take generation() before they load and hand it to put. Every eviction bumps the generation,
+// so a put whose load may have overlapped a write (in flight or just committed) is dropped instead of
+// caching the old row until the entry expires.
+@Component
+public class SeasonCache {
+
+    public static final String SEASONS = "seasons";
+    public static final String PODCAST_SEASONS = "podcastSeasons";
+
+    public enum PodcastView { FULL, LIMITED, FIRST, LATEST }
+
+    private record PodcastKey(UUID podcastId, PodcastView view) {
+    }
+
+    private final Cache seasons;
+    private final Cache podcastSeasons;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public SeasonCache(CacheManager cacheManager) {
+        this.seasons = Objects.requireNonNull(cacheManager.getCache(SEASONS));
+        this.podcastSeasons = Objects.requireNonNull(cacheManager.getCache(PODCAST_SEASONS));
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public SeasonDto getSeason(UUID seasonId) {
+        return seasons.get(seasonId, SeasonDto.class);
+    }
+
+    public void putSeason(UUID seasonId, SeasonDto seasonDto, long loadedAt) {
+        put(seasons, seasonId, seasonDto, loadedAt);
+    }
+
+    public SeasonDto getPodcastSeason(UUID podcastId, PodcastView view) {
+        return podcastSeasons.get(new PodcastKey(podcastId, view), SeasonDto.class);
+    }
+
+    public void putPodcastSeason(UUID podcastId, PodcastView view, SeasonDto seasonDto, long loadedAt) {
+        put(podcastSeasons, new PodcastKey(podcastId, view), seasonDto, loadedAt);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<SeasonDto> getPodcastSeasons(UUID podcastId, PodcastView view) {
+        return podcastSeasons.get(new PodcastKey(podcastId, view), List.class);
+    }
+
+    public void putPodcastSeasons(UUID podcastId, PodcastView view, List<SeasonDto> seasonDtos, long loadedAt) {
+        put(podcastSeasons, new PodcastKey(podcastId, view), List.copyOf(seasonDtos), loadedAt);
+    }
+
+    // An eviction that runs between the check and the put bumped the generation first, so the second
+    // check sees it and takes the entry out again.
+    private void put(Cache cache, Object key, Object value, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        cache.put(key, value);
+        if (generation.get() != loadedAt) {
+            cache.evict(key);
+        }
+    }
+
+    // Evicts now and again after commit. The generation bumps make sure a reader that loaded the old row
+    // while the write was in flight doesn't put it back after either eviction.
+    public void evict(UUID seasonId, UUID podcastId) {
+        evictNow(seasonId, podcastId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(seasonId, podcastId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(UUID seasonId, UUID podcastId) {
+        generation.incrementAndGet();
+        if (seasonId != null) {
+            seasons.evict(seasonId);
+        }
+        if (podcastId != null) {
+            for (PodcastView view : PodcastView.values()) {
+                podcastSeasons.evict(new PodcastKey(podcastId, view));
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.edufypodseasonservice.services;
+
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Runs an edit of a season's episodes in its own transaction and runs it again when another
+// writer changed the season in the meantime. The version column on season makes the losing
+// transaction fail on commit instead of overwriting the other writer's episode links.
+@Component
+public class SeasonEditRetry {
+
+    private static final Logger F_LOG = LogManager.getLogger("functionality");
+
+    private final TransactionOperations transactionOperations;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    @Autowired
+    public SeasonEditRetry(PlatformTransactionManager transactionManager,
+                           @Value("${season.episode-edit.max-attempts:5}") int maxAttempts,
+                           @Value("${season.episode-edit.backoff:10ms}") Duration backoff) {
+        this(new TransactionTemplate(transactionManager), maxAttempts, backoff);
+    }
+
+    SeasonEditRetry(TransactionOperations transactionOperations, int maxAttempts, Duration backoff) {
+        this.transactionOperations = transactionOperations;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    public <T> T run(UUID seasonId, Supplier<T> edit) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> edit.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    F_LOG.warn("Season {} was changed concurrently, gave up after {} attempts.", seasonId, attempt);
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            String.format("Season %s was changed by another request, try again.", seasonId));
+                }
+                F_LOG.info("Season {} was changed concurrently, retrying (attempt {}).", seasonId, attempt + 1);
+                pause(attempt);
+            }
+        }
+    }
+
+    // random pause that grows with the attempts, so writers that collided don't collide again
+    private void pause(int attempt) {
+        long maxNanos = backoff.toNanos() * attempt;
+        if (maxNanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(maxNanos)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while retrying");
+        }
+    }
+}
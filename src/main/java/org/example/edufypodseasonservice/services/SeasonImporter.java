@@ -0,0 +1,200 @@
+package org.example.edufypodseasonservice.services;
+
+
+import jakarta.persistence.EntityManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonImportResultDto;
+import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.repositories.PodcastSeasonNumber;
+import org.example.edufypodseasonservice.repositories.SeasonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Imports a season export in fixed-size batches, each committed on its own, so memory stays flat however
+// long the stream is. Season ids from the export are kept and seasons that already exist are skipped,
+// which makes an interrupted import safe to run again.
+@Component
+public class SeasonImporter {
+
+    private record PodcastSeasonKey(UUID podcastId, Integer seasonNumber) {
+    }
+
+    private record BatchOutcome(int imported, int skipped, List<String> errors) {
+    }
+
+    private static final Logger F_LOG = LogManager.getLogger("functionality");
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final SeasonRepository seasonRepository;
+    private final EpisodeLinkOutbox episodeLinkOutbox;
+    private final SeasonCache seasonCache;
+    private final UserInfo userInfo;
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    @Autowired
+    public SeasonImporter(SeasonRepository seasonRepository, EpisodeLinkOutbox episodeLinkOutbox,
+                          SeasonCache seasonCache, UserInfo userInfo, EntityManager entityManager,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${season.import.batch-size:500}") int batchSize) {
+        this(seasonRepository, episodeLinkOutbox, seasonCache, userInfo, entityManager,
+                new TransactionTemplate(transactionManager), batchSize);
+    }
+
+    SeasonImporter(SeasonRepository seasonRepository, EpisodeLinkOutbox episodeLinkOutbox, SeasonCache seasonCache,
+                   UserInfo userInfo, EntityManager entityManager, TransactionOperations transactionOperations,
+                   int batchSize) {
+        this.seasonRepository = seasonRepository;
+        this.episodeLinkOutbox = episodeLinkOutbox;
+        this.seasonCache = seasonCache;
+        this.userInfo = userInfo;
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    // linkEpisodes records the episode links in the outbox, leave it off when the podcast service already has them
+    public SeasonImportResultDto importSeasons(Iterator<SeasonDto> seasonDtos, boolean linkEpisodes) {
+        String role = userInfo.getRole();
+        SeasonImportResultDto result = new SeasonImportResultDto();
+        List<SeasonDto> batch = new ArrayList<>(batchSize);
+        long firstLine = 1;
+        while (true) {
+            SeasonDto seasonDto;
+            try {
+                if (!seasonDtos.hasNext()) {
+                    break;
+                }
+                seasonDto = seasonDtos.next();
+            } catch (RuntimeException e) {
+                F_LOG.warn("{} tried to import an unreadable season on line {}.", role, firstLine + batch.size());
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format(
+                        "Season on line %d can't be read, %d seasons before it were imported",
+                        firstLine + batch.size(), result.getImported()));
+            }
+            batch.add(seasonDto);
+            if (batch.size() == batchSize) {
+                importBatch(batch, firstLine, linkEpisodes, result);
+                firstLine += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, firstLine, linkEpisodes, result);
+        }
+
+        F_LOG.info("{} imported {} seasons, skipped {} and rejected {}.",
+                role, result.getImported(), result.getSkipped(), result.getFailed());
+        return result;
+    }
+
+    private void importBatch(List<SeasonDto> batch, long firstLine, boolean linkEpisodes, SeasonImportResultDto result) {
+        BatchOutcome outcome;
+        try {
+            outcome = transactionOperations.execute(status -> saveBatch(batch, firstLine, linkEpisodes));
+        } catch (DataIntegrityViolationException e) {
+            // a season was created concurrently with one of the same number, the batch was rolled back.
+            // Any other violation is not something the caller can fix in the export, it ends the import.
+            if (!SeasonServiceImpl.isSeasonNumberConflict(e)) {
+                throw e;
+            }
+            result.setFailed(result.getFailed() + batch.size());
+            addError(result, String.format("Lines %d-%d: not imported, a season number was taken during the import",
+                    firstLine, firstLine + batch.size() - 1));
+            return;
+        }
+        result.setImported(result.getImported() + outcome.imported());
+        result.setSkipped(result.getSkipped() + outcome.skipped());
+        result.setFailed(result.getFailed() + outcome.errors().size());
+        for (String error : outcome.errors()) {
+            addError(result, error);
+        }
+    }
+
+    private BatchOutcome saveBatch(List<SeasonDto> batch, long firstLine, boolean linkEpisodes) {
+        Set<UUID> seasonIds = new HashSet<>();
+        Set<UUID> podcastIds = new HashSet<>();
+        for (SeasonDto seasonDto : batch) {
+            if (SeasonServiceImpl.seasonProblem(seasonDto) == null) {
+                if (seasonDto.getId() != null) {
+                    seasonIds.add(seasonDto.getId());
+                }
+                podcastIds.add(seasonDto.getPodcastId());
+            }
+        }
+        Set<UUID> knownIds = new HashSet<>();
+        if (!seasonIds.isEmpty()) {
+            knownIds.addAll(seasonRepository.findExistingIds(seasonIds));
+        }
+        Set<PodcastSeasonKey> takenNumbers = new HashSet<>();
+        if (!podcastIds.isEmpty()) {
+            for (PodcastSeasonNumber existing : seasonRepository.findSeasonNumbersByPodcastIdIn(podcastIds)) {
+                takenNumbers.add(new PodcastSeasonKey(existing.getPodcastId(), existing.getSeasonNumber()));
+            }
+        }
+
+        List<Season> seasons = new ArrayList<>(batch.size());
+        List<String> errors = new ArrayList<>();
+        int skipped = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            SeasonDto seasonDto = batch.get(i);
+            String problem = SeasonServiceImpl.seasonProblem(seasonDto);
+            if (problem != null) {
+                errors.add(String.format("Line %d: %s", firstLine + i, problem));
+                continue;
+            }
+            // already imported, or repeated in the stream
+            if (seasonDto.getId() != null && !knownIds.add(seasonDto.getId())) {
+                skipped++;
+                continue;
+            }
+            if (!takenNumbers.add(new PodcastSeasonKey(seasonDto.getPodcastId(), seasonDto.getSeasonNumber()))) {
+                errors.add(String.format("Line %d: Season with that number already exists", firstLine + i));
+                continue;
+            }
+            Season season = SeasonServiceImpl.newSeason(seasonDto);
+            season.setId(seasonDto.getId());
+            if (seasonDto.getEpisodes() != null) {
+                season.getEpisodes().addAll(seasonDto.getEpisodes());
+            }
+            seasons.add(season);
+        }
+
+        seasonRepository.saveAll(seasons);
+        if (linkEpisodes) {
+            for (Season season : seasons) {
+                episodeLinkOutbox.link(season.getId(), season.getEpisodes());
+            }
+        }
+        seasonRepository.flush();
+        entityManager.clear();
+        for (UUID podcastId : podcastIds) {
+            seasonCache.evict(null, podcastId);
+        }
+        return new BatchOutcome(seasons.size(), skipped, errors);
+    }
+
+    private static void addError(SeasonImportResultDto result, String error) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(error);
+        }
+    }
+}
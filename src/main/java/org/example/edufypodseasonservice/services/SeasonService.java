@@ -1,21 +1,37 @@
 package org.example.edufypodseasonservice.services;
 
 
+import org.example.edufypodseasonservice.dto.SeasonBulkResultDto;
 import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonPageDto;
 import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.repositories.SeasonVersion;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface SeasonService {
 
     SeasonDto getSeason(UUID seasonId);
     List<SeasonDto> getAllSeasons();
+    SeasonPageDto getSeasonsPage(UUID afterPodcastId, Integer afterSeasonNumber, Integer size);
+    void streamAllSeasons(Consumer<SeasonDto> seasonConsumer);
+    void exportAllSeasons(Consumer<SeasonDto> seasonConsumer);
     List<SeasonDto> getSeasonsByPodcast(UUID podcastId, boolean full);
     SeasonDto getFirstSeason(UUID podcastId);
     SeasonDto getLatestSeason(UUID podcastId);
+    List<SeasonDto> getSeasonsByEpisode(UUID episodeId);
+    Map<UUID, List<SeasonDto>> getSeasonsByEpisodes(List<UUID> episodeIds);
+
+    List<SeasonVersion> getAllSeasonVersions();
+    List<SeasonVersion> getSeasonsPageVersions(UUID afterPodcastId, Integer afterSeasonNumber, Integer size);
+    List<SeasonVersion> getPodcastSeasonVersions(UUID podcastId);
+    List<SeasonVersion> getEpisodeSeasonVersions(UUID episodeId);
 
     Season addSeason(SeasonDto seasonDto);
+    List<SeasonBulkResultDto> addSeasons(List<SeasonDto> seasonDtos);
     Season updateSeason(SeasonDto seasonDto);
     String deleteSeason(UUID seasonId);
     SeasonDto addEpisodesToSeason(UUID seasonId, List<UUID> episodeIds);
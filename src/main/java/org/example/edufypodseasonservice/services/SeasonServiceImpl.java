@@ -1,23 +1,43 @@
 package org.example.edufypodseasonservice.services;
 
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.dto.SeasonBulkResultDto;
 import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonPageDto;
 import org.example.edufypodseasonservice.entities.Season;
 import org.example.edufypodseasonservice.external.EpisodeApiClient;
 import org.example.edufypodseasonservice.mapper.SeasonDtoConverter;
+import org.example.edufypodseasonservice.repositories.EpisodeSeason;
+import org.example.edufypodseasonservice.repositories.PodcastSeasonNumber;
 import org.example.edufypodseasonservice.repositories.SeasonRepository;
+import org.example.edufypodseasonservice.repositories.SeasonVersion;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 
 @Service
@@ -26,16 +46,33 @@ public class SeasonServiceImpl implements SeasonService {
     private final SeasonRepository seasonRepository;
     private final SeasonDtoConverter seasonDtoConverter;
     private final EpisodeApiClient episodeApiClient;
+    private final EpisodeLinkOutbox episodeLinkOutbox;
     private final UserInfo userInfo;
+    private final EntityManager entityManager;
+    private final SeasonCache seasonCache;
+    private final SeasonEditRetry seasonEditRetry;
+    private final Duration streamTimeout;
     private static final Logger F_LOG = LogManager.getLogger("functionality");
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private record PodcastSeasonKey(UUID podcastId, Integer seasonNumber) {
+    }
 
     @Autowired
     public SeasonServiceImpl(SeasonRepository seasonRepository, SeasonDtoConverter seasonDtoConverter,
-                             EpisodeApiClient episodeApiClient, UserInfo userInfo) {
+                             EpisodeApiClient episodeApiClient, EpisodeLinkOutbox episodeLinkOutbox,
+                             UserInfo userInfo, EntityManager entityManager, SeasonCache seasonCache,
+                             SeasonEditRetry seasonEditRetry,
+                             @Value("${season.stream.timeout:5m}") Duration streamTimeout) {
         this.seasonRepository = seasonRepository;
         this.seasonDtoConverter = seasonDtoConverter;
         this.episodeApiClient = episodeApiClient;
+        this.episodeLinkOutbox = episodeLinkOutbox;
         this.userInfo = userInfo;
+        this.entityManager = entityManager;
+        this.seasonCache = seasonCache;
+        this.seasonEditRetry = seasonEditRetry;
+        this.streamTimeout = streamTimeout;
     }
 
     @Override
@@ -48,15 +85,21 @@ public class SeasonServiceImpl implements SeasonService {
                     "Id must be provided"
             );
         }
-        Season season = seasonRepository.findById(seasonId).orElseThrow(() -> {
-            F_LOG.warn("{} tried to retrieve a season with id {} that doesn't exist.", role, seasonId);
-            return new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    String.format("No season exists with id: %s.", seasonId)
-            );
-        });
+        long cacheGeneration = seasonCache.generation();
+        SeasonDto seasonDto = seasonCache.getSeason(seasonId);
+        if (seasonDto == null) {
+            Season season = seasonRepository.findById(seasonId).orElseThrow(() -> {
+                F_LOG.warn("{} tried to retrieve a season with id {} that doesn't exist.", role, seasonId);
+                return new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        String.format("No season exists with id: %s.", seasonId)
+                );
+            });
+            seasonDto = seasonDtoConverter.seasonFullDtoConvert(season);
+            seasonCache.putSeason(seasonId, seasonDto, cacheGeneration);
+        }
         F_LOG.info("{} retrieved season with id {}.", role, seasonId);
-        return seasonDtoConverter.seasonFullDtoConvert(season);
+        return seasonDto;
     }
 
     @Override
@@ -70,6 +113,97 @@ public class SeasonServiceImpl implements SeasonService {
         return seasonDtos;
     }
 
+    @Override
+    public SeasonPageDto getSeasonsPage(UUID afterPodcastId, Integer afterSeasonNumber, Integer size) {
+        String role = userInfo.getRole();
+        checkPageRequest(role, afterPodcastId, afterSeasonNumber, size);
+        List<Season> seasons;
+        if (afterPodcastId == null) {
+            seasons = seasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc(Limit.of(size));
+        } else {
+            seasons = seasonRepository.findSeasonsAfter(afterPodcastId, afterSeasonNumber, Limit.of(size));
+        }
+        List<SeasonDto> seasonDtos = new ArrayList<>(seasons.size());
+        for (Season season : seasons) {
+            seasonDtos.add(seasonDtoConverter.seasonLimitedDtoConvert(season));
+        }
+        SeasonPageDto seasonPageDto = new SeasonPageDto();
+        seasonPageDto.setSeasons(seasonDtos);
+        if (seasons.size() == size) {
+            Season last = seasons.get(seasons.size() - 1);
+            seasonPageDto.setNextPodcastId(last.getPodcastId());
+            seasonPageDto.setNextSeasonNumber(last.getSeasonNumber());
+        }
+        F_LOG.info("{} retrieved a page of {} seasons.", role, seasonDtos.size());
+        return seasonPageDto;
+    }
+
+    private void checkPageRequest(String role, UUID afterPodcastId, Integer afterSeasonNumber, Integer size) {
+        if ((afterPodcastId == null) != (afterSeasonNumber == null)) {
+            F_LOG.warn("{} tried to retrieve a page of seasons with an incomplete cursor.", role);
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Both afterPodcastId and afterSeasonNumber must be provided"
+            );
+        }
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE) {
+            F_LOG.warn("{} tried to retrieve a page of seasons with invalid size {}.", role, size);
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    String.format("Size must be between 1 and %d", MAX_PAGE_SIZE)
+            );
+        }
+    }
+
+    @Transactional
+    @Override
+    public void streamAllSeasons(Consumer<SeasonDto> seasonConsumer) {
+        String role = userInfo.getRole();
+        long deadline = streamDeadline();
+        try (Stream<Season> seasons = seasonRepository.streamAllByOrderByPodcastIdAscSeasonNumberAsc()) {
+            seasons.forEach(season -> {
+                checkStreamDeadline(deadline, role);
+                seasonConsumer.accept(seasonDtoConverter.seasonLimitedDtoConvert(season));
+                // keeps the persistence context from growing with the table
+                entityManager.detach(season);
+            });
+        }
+        F_LOG.info("{} streamed all seasons.", role);
+    }
+
+    @Transactional
+    @Override
+    public void exportAllSeasons(Consumer<SeasonDto> seasonConsumer) {
+        String role = userInfo.getRole();
+        long exported = 0;
+        long deadline = streamDeadline();
+        try (Stream<Season> seasons = seasonRepository.streamAllWithEpisodes()) {
+            Iterator<Season> iterator = seasons.iterator();
+            while (iterator.hasNext()) {
+                checkStreamDeadline(deadline, role);
+                Season season = iterator.next();
+                seasonConsumer.accept(seasonDtoConverter.seasonFullDtoConvert(season));
+                entityManager.detach(season);
+                exported++;
+            }
+        }
+        F_LOG.info("{} exported {} seasons.", role, exported);
+    }
+
+    // The streams hold a pooled connection and an open transaction while the client reads, so a slow
+    // client is cut off after season.stream.timeout. This is checked per row: a transaction timeout
+    // would only be checked when the next statement is created, which never happens while streaming.
+    private long streamDeadline() {
+        return System.nanoTime() + streamTimeout.toNanos();
+    }
+
+    private void checkStreamDeadline(long deadline, String role) {
+        if (System.nanoTime() - deadline >= 0) {
+            F_LOG.warn("{} was still reading a season stream after {}, it was aborted.", role, streamTimeout);
+            throw new TransactionTimedOutException("Season stream exceeded " + streamTimeout);
+        }
+    }
+
     @Override
     public List<SeasonDto> getSeasonsByPodcast(UUID podcastId, boolean full) {
         String role = userInfo.getRole();
@@ -80,16 +214,24 @@ public class SeasonServiceImpl implements SeasonService {
                     "PodcastId must be provided"
             );
         }
-        List<Season> seasons = seasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId);
-        List<SeasonDto> seasonDtos = new ArrayList<>();
-        if (full) {
-            for (Season season : seasons) {
-                seasonDtos.add(seasonDtoConverter.seasonFullDtoConvert(season));
-            }
-        }else {
-            for (Season season : seasons) {
-                seasonDtos.add(seasonDtoConverter.seasonLimitedDtoConvert(season));
+        SeasonCache.PodcastView view = full ? SeasonCache.PodcastView.FULL : SeasonCache.PodcastView.LIMITED;
+        long cacheGeneration = seasonCache.generation();
+        List<SeasonDto> seasonDtos = seasonCache.getPodcastSeasons(podcastId, view);
+        if (seasonDtos == null) {
+            List<Season> seasons = full
+                    ? seasonRepository.findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(podcastId)
+                    : seasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId);
+            seasonDtos = new ArrayList<>();
+            if (full) {
+                for (Season season : seasons) {
+                    seasonDtos.add(seasonDtoConverter.seasonFullDtoConvert(season));
+                }
+            }else {
+                for (Season season : seasons) {
+                    seasonDtos.add(seasonDtoConverter.seasonLimitedDtoConvert(season));
+                }
             }
+            seasonCache.putPodcastSeasons(podcastId, view, seasonDtos, cacheGeneration);
         }
         F_LOG.info("{} retrieved all seasons of podcast: {}.", role, podcastId);
         return seasonDtos;
@@ -105,15 +247,21 @@ public class SeasonServiceImpl implements SeasonService {
                     "PodcastId must be provided"
             );
         }
-        Season season = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberAsc(podcastId).orElseThrow(() -> {
-            F_LOG.warn("{} tried to retrieve a season that doesn't exist.", role);
-            return new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    String.format("No season exists for podcastId: %s.", podcastId)
-            );
-        });
-        F_LOG.info("{} retrieved season with id {}.", role, season.getId());
-        return seasonDtoConverter.seasonFullDtoConvert(season);
+        long cacheGeneration = seasonCache.generation();
+        SeasonDto seasonDto = seasonCache.getPodcastSeason(podcastId, SeasonCache.PodcastView.FIRST);
+        if (seasonDto == null) {
+            Season season = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberAsc(podcastId).orElseThrow(() -> {
+                F_LOG.warn("{} tried to retrieve a season that doesn't exist.", role);
+                return new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        String.format("No season exists for podcastId: %s.", podcastId)
+                );
+            });
+            seasonDto = seasonDtoConverter.seasonFullDtoConvert(season);
+            seasonCache.putPodcastSeason(podcastId, SeasonCache.PodcastView.FIRST, seasonDto, cacheGeneration);
+        }
+        F_LOG.info("{} retrieved season with id {}.", role, seasonDto.getId());
+        return seasonDto;
     }
 
     @Override
@@ -126,66 +274,208 @@ public class SeasonServiceImpl implements SeasonService {
                     "PodcastId must be provided"
             );
         }
-        Season season = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(podcastId).orElseThrow(() -> {
-            F_LOG.warn("{} tried to retrieve a season that doesn't exist.", role);
-            return new ResponseStatusException(
+        long cacheGeneration = seasonCache.generation();
+        SeasonDto seasonDto = seasonCache.getPodcastSeason(podcastId, SeasonCache.PodcastView.LATEST);
+        if (seasonDto == null) {
+            Season season = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(podcastId).orElseThrow(() -> {
+                F_LOG.warn("{} tried to retrieve a season that doesn't exist.", role);
+                return new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        String.format("No season exists for podcastId: %s.", podcastId)
+                );
+            });
+            seasonDto = seasonDtoConverter.seasonFullDtoConvert(season);
+            seasonCache.putPodcastSeason(podcastId, SeasonCache.PodcastView.LATEST, seasonDto, cacheGeneration);
+        }
+        F_LOG.info("{} retrieved season with id {}.", role, seasonDto.getId());
+        return seasonDto;
+    }
+
+    @Override
+    public List<SeasonDto> getSeasonsByEpisode(UUID episodeId) {
+        String role = userInfo.getRole();
+        if (episodeId == null) {
+            F_LOG.warn("{} tried to retrieve seasons without providing an episodeId.", role);
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "EpisodeId must be provided"
+            );
+        }
+        List<Season> seasons = seasonRepository.findByEpisodeId(episodeId);
+        if (seasons.isEmpty()) {
+            F_LOG.warn("{} tried to retrieve seasons for episode {} that isn't in any season.", role, episodeId);
+            throw new ResponseStatusException(
                     HttpStatus.NOT_FOUND,
-                    String.format("No season exists for podcastId: %s.", podcastId)
+                    String.format("No season contains episode: %s.", episodeId)
             );
-        });
-        F_LOG.info("{} retrieved season with id {}.", role, season.getId());
-        return seasonDtoConverter.seasonFullDtoConvert(season);
+        }
+        List<SeasonDto> seasonDtos = new ArrayList<>(seasons.size());
+        for (Season season : seasons) {
+            seasonDtos.add(seasonDtoConverter.seasonLimitedDtoConvert(season));
+        }
+        F_LOG.info("{} retrieved seasons for episode {}.", role, episodeId);
+        return seasonDtos;
     }
 
-    @Transactional
+    // The *Versions lookups answer conditional GETs: they read the versions of the seasons a list
+    // would contain, without loading the seasons, their episodes or the cache.
     @Override
-    public Season addSeason(SeasonDto seasonDto) {
-        Season season = new Season();
-        if (seasonDto.getName() == null || seasonDto.getName().isBlank()) {
-            F_LOG.warn("{} tried to add a season without a name.", userInfo.getRole());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Name is required");
-        }
-        if (seasonDto.getPodcastId() == null) {
-            F_LOG.warn("{} tried to add a season without a podcastId.", userInfo.getRole());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "PodcastId is required");
+    public List<SeasonVersion> getAllSeasonVersions() {
+        List<SeasonVersion> seasonVersions = seasonRepository.findVersions();
+        F_LOG.info("{} checked the versions of all seasons.", userInfo.getRole());
+        return seasonVersions;
+    }
+
+    @Override
+    public List<SeasonVersion> getSeasonsPageVersions(UUID afterPodcastId, Integer afterSeasonNumber, Integer size) {
+        String role = userInfo.getRole();
+        checkPageRequest(role, afterPodcastId, afterSeasonNumber, size);
+        List<SeasonVersion> seasonVersions = afterPodcastId == null
+                ? seasonRepository.findPageVersions(Limit.of(size))
+                : seasonRepository.findPageVersionsAfter(afterPodcastId, afterSeasonNumber, Limit.of(size));
+        F_LOG.info("{} checked the versions of a page of {} seasons.", role, seasonVersions.size());
+        return seasonVersions;
+    }
+
+    @Override
+    public List<SeasonVersion> getPodcastSeasonVersions(UUID podcastId) {
+        String role = userInfo.getRole();
+        if (podcastId == null) {
+            F_LOG.warn("{} tried to retrieve a season without providing a PodcastId.", role);
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "PodcastId must be provided"
+            );
         }
-        if (seasonDto.getSeasonNumber() == null) {
-            F_LOG.warn("{} tried to add a season without a season number.", userInfo.getRole());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Season number is required");
+        List<SeasonVersion> seasonVersions = seasonRepository.findVersionsByPodcastId(podcastId);
+        F_LOG.info("{} checked the versions of the seasons of podcast: {}.", role, podcastId);
+        return seasonVersions;
+    }
+
+    @Override
+    public List<SeasonVersion> getEpisodeSeasonVersions(UUID episodeId) {
+        String role = userInfo.getRole();
+        if (episodeId == null) {
+            F_LOG.warn("{} tried to retrieve seasons without providing an episodeId.", role);
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "EpisodeId must be provided"
+            );
         }
-        if(seasonRepository.existsByPodcastIdAndSeasonNumber(seasonDto.getPodcastId(), seasonDto.getSeasonNumber())) {
-            F_LOG.warn("{} tried to add a season that already exist for that podcast.", userInfo.getRole());
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Season with that number already exists");
+        List<SeasonVersion> seasonVersions = seasonRepository.findVersionsByEpisodeId(episodeId);
+        F_LOG.info("{} checked the versions of the seasons for episode {}.", role, episodeId);
+        return seasonVersions;
+    }
+
+    @Override
+    public Map<UUID, List<SeasonDto>> getSeasonsByEpisodes(List<UUID> episodeIds) {
+        String role = userInfo.getRole();
+        if (episodeIds == null || episodeIds.isEmpty()) {
+            F_LOG.warn("{} tried to retrieve seasons without providing episodeIds.", role);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one episode ID must be provided");
         }
-        if (seasonDto.getDescription() != null) {
-            season.setDescription(seasonDto.getDescription());
-        }else {
-            season.setDescription("");
+        if (episodeIds.size() > MAX_PAGE_SIZE) {
+            F_LOG.warn("{} tried to retrieve seasons for {} episodes at once.", role, episodeIds.size());
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    String.format("At most %d episode IDs can be looked up at once", MAX_PAGE_SIZE)
+            );
         }
-        if (seasonDto.getImageUrl() != null && !seasonDto.getImageUrl().isBlank()) {
-            season.setImageUrl(seasonDto.getImageUrl());
-        }else {
-            season.setImageUrl("https://default/image.url");
+        // every requested episode is in the result, episodes that aren't in a season map to an empty list
+        Map<UUID, List<SeasonDto>> seasonsByEpisode = new LinkedHashMap<>();
+        for (UUID episodeId : episodeIds) {
+            seasonsByEpisode.put(episodeId, new ArrayList<>());
         }
-        if (seasonDto.getThumbnailUrl() != null && !seasonDto.getThumbnailUrl().isBlank()) {
-            season.setThumbnailUrl(seasonDto.getThumbnailUrl());
-        }else {
-            season.setThumbnailUrl("https://default/thumbnail.url");
+        for (EpisodeSeason episodeSeason : seasonRepository.findByEpisodeIdIn(seasonsByEpisode.keySet())) {
+            seasonsByEpisode.get(episodeSeason.getEpisodeId())
+                    .add(seasonDtoConverter.seasonLimitedDtoConvert(episodeSeason.getSeason()));
         }
-        if (seasonDto.getEpisodes() != null && !seasonDto.getEpisodes().isEmpty()) {
-            F_LOG.warn("{} tried to add episodes to a season from the wrong endpoint.", userInfo.getRole());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Episodes can't be added from this endpoint");
+        F_LOG.info("{} retrieved seasons for {} episodes.", role, seasonsByEpisode.size());
+        return seasonsByEpisode;
+    }
+
+    @Transactional
+    @Override
+    public Season addSeason(SeasonDto seasonDto) {
+        String role = userInfo.getRole();
+        String problem = newSeasonProblem(seasonDto);
+        if (problem != null) {
+            F_LOG.warn("{} tried to add an invalid season: {}", role, problem);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, problem);
         }
-        season.setName(seasonDto.getName());
-        season.setPodcastId(seasonDto.getPodcastId());
-        season.setSeasonNumber(seasonDto.getSeasonNumber());
 
-        Season savedSeason = seasonRepository.save(season);
+        Season savedSeason = saveWithUniqueSeasonNumber(newSeason(seasonDto));
+        seasonCache.evict(savedSeason.getId(), savedSeason.getPodcastId());
 
-        F_LOG.info("{} added a season with id {}.", userInfo.getRole(), savedSeason.getId());
+        F_LOG.info("{} added a season with id {}.", role, savedSeason.getId());
         return savedSeason;
     }
 
+    // Invalid seasons and numbers already taken are reported per item, the rest is inserted in JDBC batches.
+    // Ids come from the UUID generator, so Hibernate doesn't need a round trip per row to learn them.
+    @Transactional
+    @Override
+    public List<SeasonBulkResultDto> addSeasons(List<SeasonDto> seasonDtos) {
+        String role = userInfo.getRole();
+        if (seasonDtos == null || seasonDtos.isEmpty()) {
+            F_LOG.warn("{} tried to add seasons without providing any.", role);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one season must be provided");
+        }
+        if (seasonDtos.size() > MAX_PAGE_SIZE) {
+            F_LOG.warn("{} tried to add {} seasons at once.", role, seasonDtos.size());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("At most %d seasons can be added at once", MAX_PAGE_SIZE));
+        }
+        SeasonBulkResultDto[] results = new SeasonBulkResultDto[seasonDtos.size()];
+        Set<UUID> podcastIds = new HashSet<>();
+        for (int i = 0; i < seasonDtos.size(); i++) {
+            String problem = newSeasonProblem(seasonDtos.get(i));
+            if (problem != null) {
+                results[i] = new SeasonBulkResultDto(i, HttpStatus.BAD_REQUEST.value(), null, problem);
+            } else {
+                podcastIds.add(seasonDtos.get(i).getPodcastId());
+            }
+        }
+        Set<PodcastSeasonKey> takenNumbers = new HashSet<>();
+        if (!podcastIds.isEmpty()) {
+            for (PodcastSeasonNumber existing : seasonRepository.findSeasonNumbersByPodcastIdIn(podcastIds)) {
+                takenNumbers.add(new PodcastSeasonKey(existing.getPodcastId(), existing.getSeasonNumber()));
+            }
+        }
+        Map<Integer, Season> newSeasons = new LinkedHashMap<>();
+        for (int i = 0; i < seasonDtos.size(); i++) {
+            SeasonDto seasonDto = seasonDtos.get(i);
+            if (results[i] != null) {
+                continue;
+            }
+            // also catches the same number twice in one request
+            if (!takenNumbers.add(new PodcastSeasonKey(seasonDto.getPodcastId(), seasonDto.getSeasonNumber()))) {
+                results[i] = new SeasonBulkResultDto(i, HttpStatus.CONFLICT.value(), null,
+                        "Season with that number already exists");
+                continue;
+            }
+            newSeasons.put(i, newSeason(seasonDto));
+        }
+
+        if (!newSeasons.isEmpty()) {
+            withUniqueSeasonNumber(() -> {
+                seasonRepository.saveAll(newSeasons.values());
+                seasonRepository.flush();
+                return null;
+            });
+        }
+        for (Map.Entry<Integer, Season> created : newSeasons.entrySet()) {
+            results[created.getKey()] = new SeasonBulkResultDto(created.getKey(), HttpStatus.CREATED.value(),
+                    created.getValue().getId(), null);
+        }
+        for (UUID podcastId : podcastIds) {
+            seasonCache.evict(null, podcastId);
+        }
+
+        F_LOG.info("{} added {} of {} seasons in bulk.", role, newSeasons.size(), seasonDtos.size());
+        return List.of(results);
+    }
+
     @Transactional
     @Override
     public Season updateSeason(SeasonDto seasonDto) {
@@ -217,10 +507,6 @@ public class SeasonServiceImpl implements SeasonService {
             );
         }
         if (seasonDto.getSeasonNumber() != null && !seasonDto.getSeasonNumber().equals(season.getSeasonNumber())) {
-            if(seasonRepository.existsByPodcastIdAndSeasonNumber(season.getPodcastId(), seasonDto.getSeasonNumber())) {
-                F_LOG.warn("{} tried to change to a season number that already exist for that podcast.", userInfo.getRole());
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Season with that number already exists");
-            }
             season.setSeasonNumber(seasonDto.getSeasonNumber());
         }
         if (seasonDto.getDescription() != null && !seasonDto.getDescription().equals(season.getDescription())) {
@@ -238,12 +524,15 @@ public class SeasonServiceImpl implements SeasonService {
             season.setThumbnailUrl(seasonDto.getThumbnailUrl());
         }
         if (seasonDto.getEpisodes() != null && !seasonDto.getEpisodes().isEmpty()) {
-            F_LOG.warn("{} tried to add episodes to a season from the wrong endpoint.", userInfo.getRole());
+            F_LOG.warn("{} tried to add episodes to a season from the wrong endpoint.", role);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Episodes can't be added from this endpoint");
         }
 
-        F_LOG.info("{} updated a season with id {}.", userInfo.getRole(), season.getId());
-        return seasonRepository.save(season);
+        Season saved = saveWithUniqueSeasonNumber(season);
+        seasonCache.evict(saved.getId(), saved.getPodcastId());
+
+        F_LOG.info("{} updated a season with id {}.", role, season.getId());
+        return saved;
     }
 
     @Transactional
@@ -265,19 +554,21 @@ public class SeasonServiceImpl implements SeasonService {
             );
         });
         if (!season.getEpisodes().isEmpty()){
-            for (UUID episodeId : season.getEpisodes()) {
-                episodeApiClient.removeSeasonFromEpisode(episodeId, seasonId);
-            }
+            episodeLinkOutbox.unlink(seasonId, List.copyOf(season.getEpisodes()));
         }
         seasonRepository.deleteById(seasonId);
+        seasonCache.evict(seasonId, season.getPodcastId());
 
         F_LOG.info("{} deleted season with id: {}", role, seasonId);
         return String.format("Season with Id: %s have been successfully deleted and episodes removed.", seasonId);
     }
 
-    @Transactional
     @Override
     public SeasonDto addEpisodesToSeason(UUID seasonId, List<UUID> episodeIds) {
+        return seasonEditRetry.run(seasonId, () -> addEpisodesToSeasonOnce(seasonId, episodeIds));
+    }
+
+    private SeasonDto addEpisodesToSeasonOnce(UUID seasonId, List<UUID> episodeIds) {
         String role = userInfo.getRole();
         if (seasonId == null) {
             F_LOG.warn("{} tried to add episodes without providing seasonId.", role);
@@ -293,23 +584,24 @@ public class SeasonServiceImpl implements SeasonService {
                     HttpStatus.NOT_FOUND, String.format("No season exists with id: %s.", seasonId)
             );
         });
-        List<UUID> currentEpisodes = season.getEpisodes();
+        Set<UUID> currentEpisodes = season.getEpisodes();
+        List<UUID> addedEpisodes = new ArrayList<>();
         for (UUID episodeId : episodeIds) {
-            if (!currentEpisodes.contains(episodeId)) {
-                currentEpisodes.add(episodeId);
-                episodeApiClient.addSeasonToEpisode(episodeId, seasonId);
+            if (currentEpisodes.add(episodeId)) {
+                addedEpisodes.add(episodeId);
             }
         }
+        if (!addedEpisodes.isEmpty()) {
+            episodeLinkOutbox.link(seasonId, addedEpisodes);
+        }
 
-        season.setEpisodes(currentEpisodes);
         Season saved = seasonRepository.save(season);
-
+        seasonCache.evict(seasonId, saved.getPodcastId());
 
         F_LOG.info("{} added episodes to season with id {}.", role, seasonId);
         return seasonDtoConverter.seasonFullDtoConvert(saved);
     }
 
-    @Transactional
     @Override
     public SeasonDto addOneEpisodeToSeason(UUID seasonId, UUID episodeId) {
         String role = userInfo.getRole();
@@ -321,10 +613,15 @@ public class SeasonServiceImpl implements SeasonService {
             F_LOG.warn("{} tried to add an episode to a season without providing episodeId.", role);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Episode ID must be provided");
         }
+        // asked before the transaction starts, so no database connection is held while the podcast service answers
         if (!episodeApiClient.episodeExists(episodeId)) {
             F_LOG.warn("{} tried to add an episode that does not exist.", role);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Episode " + episodeId + " not found");
         }
+        return seasonEditRetry.run(seasonId, () -> addOneEpisodeToSeasonOnce(seasonId, episodeId, role));
+    }
+
+    private SeasonDto addOneEpisodeToSeasonOnce(UUID seasonId, UUID episodeId, String role) {
         Season season = seasonRepository.findById(seasonId).orElseThrow(() -> {
             F_LOG.warn("{} tried to retrieve a season with id {} that doesn't exist.", role, seasonId);
             return new ResponseStatusException(
@@ -332,24 +629,25 @@ public class SeasonServiceImpl implements SeasonService {
                     String.format("No season exists with id: %s.", seasonId)
             );
         });
-        List<UUID> episodes = season.getEpisodes();
-        if (episodes.contains(episodeId)) {
+        if (!season.getEpisodes().add(episodeId)) {
             F_LOG.warn("{} tried to add an episode that's already in the season.", role);
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                     String.format("Episode %s already exists in season %s", episodeId, seasonId));
         }
-        episodes.add(episodeId);
-        season.setEpisodes(episodes);
-        episodeApiClient.addSeasonToEpisode(episodeId, seasonId);
+        episodeLinkOutbox.link(seasonId, List.of(episodeId));
         Season saved = seasonRepository.save(season);
+        seasonCache.evict(seasonId, saved.getPodcastId());
 
         F_LOG.info("{} added an episode to season with {}.", role, seasonId);
         return seasonDtoConverter.seasonFullDtoConvert(saved);
     }
 
-    @Transactional
     @Override
     public SeasonDto removeEpisodesFromSeason(UUID seasonId, List<UUID> episodeIds) {
+        return seasonEditRetry.run(seasonId, () -> removeEpisodesFromSeasonOnce(seasonId, episodeIds));
+    }
+
+    private SeasonDto removeEpisodesFromSeasonOnce(UUID seasonId, List<UUID> episodeIds) {
         String role = userInfo.getRole();
         if (seasonId == null) {
             F_LOG.warn("{} tried to remove episodes without providing seasonId.", role);
@@ -366,24 +664,29 @@ public class SeasonServiceImpl implements SeasonService {
                     String.format("No season exists with id: %s.", seasonId)
             );
         });
-        List<UUID> currentEpisodes = season.getEpisodes();
+        Set<UUID> currentEpisodes = season.getEpisodes();
+        List<UUID> removedEpisodes = new ArrayList<>();
         for (UUID episodeId : episodeIds) {
-            if (currentEpisodes.contains(episodeId)) {
-                currentEpisodes.remove(episodeId);
-                episodeApiClient.removeSeasonFromEpisode(episodeId, seasonId);
+            if (currentEpisodes.remove(episodeId)) {
+                removedEpisodes.add(episodeId);
             }
         }
-        season.setEpisodes(currentEpisodes);
+        if (!removedEpisodes.isEmpty()) {
+            episodeLinkOutbox.unlink(seasonId, removedEpisodes);
+        }
         Season saved = seasonRepository.save(season);
+        seasonCache.evict(seasonId, saved.getPodcastId());
 
         F_LOG.info("{} removed episodes from season with {}.", role, seasonId);
         return seasonDtoConverter.seasonFullDtoConvert(saved);
     }
 
-
-    @Transactional
     @Override
     public SeasonDto removeOneEpisodeFromSeason(UUID seasonId, UUID episodeId) {
+        return seasonEditRetry.run(seasonId, () -> removeOneEpisodeFromSeasonOnce(seasonId, episodeId));
+    }
+
+    private SeasonDto removeOneEpisodeFromSeasonOnce(UUID seasonId, UUID episodeId) {
         String role = userInfo.getRole();
         if (seasonId == null) {
             F_LOG.warn("{} tried to remove an episode without providing seasonId.", role);
@@ -400,18 +703,90 @@ public class SeasonServiceImpl implements SeasonService {
                     String.format("No season exists with id: %s.", seasonId)
             );
         });
-        List<UUID> episodes = season.getEpisodes();
-        if (!episodes.contains(episodeId)) {
+        if (!season.getEpisodes().remove(episodeId)) {
             F_LOG.warn("{} tried to remove an episode from a season it's not in.", role);
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                     String.format("Episode %s dosen't exists in season %s", episodeId, seasonId));
         }
-        episodes.remove(episodeId);
-        season.setEpisodes(episodes);
-        episodeApiClient.removeSeasonFromEpisode(episodeId, seasonId);
+        episodeLinkOutbox.unlink(seasonId, List.of(episodeId));
         Season saved = seasonRepository.save(season);
+        seasonCache.evict(seasonId, saved.getPodcastId());
 
         F_LOG.info("{} removed an episode from season with {}.", role, seasonId);
         return seasonDtoConverter.seasonFullDtoConvert(saved);
     }
+
+    private static String newSeasonProblem(SeasonDto seasonDto) {
+        String problem = seasonProblem(seasonDto);
+        if (problem == null && seasonDto.getEpisodes() != null && !seasonDto.getEpisodes().isEmpty()) {
+            return "Episodes can't be added from this endpoint";
+        }
+        return problem;
+    }
+
+    // shared with SeasonImporter, which accepts episodes
+    static String seasonProblem(SeasonDto seasonDto) {
+        if (seasonDto == null) {
+            return "Season is required";
+        }
+        if (seasonDto.getName() == null || seasonDto.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (seasonDto.getPodcastId() == null) {
+            return "PodcastId is required";
+        }
+        if (seasonDto.getSeasonNumber() == null) {
+            return "Season number is required";
+        }
+        return null;
+    }
+
+    static Season newSeason(SeasonDto seasonDto) {
+        Season season = new Season();
+        if (seasonDto.getDescription() != null) {
+            season.setDescription(seasonDto.getDescription());
+        }else {
+            season.setDescription("");
+        }
+        if (seasonDto.getImageUrl() != null && !seasonDto.getImageUrl().isBlank()) {
+            season.setImageUrl(seasonDto.getImageUrl());
+        }else {
+            season.setImageUrl("https://default/image.url");
+        }
+        if (seasonDto.getThumbnailUrl() != null && !seasonDto.getThumbnailUrl().isBlank()) {
+            season.setThumbnailUrl(seasonDto.getThumbnailUrl());
+        }else {
+            season.setThumbnailUrl("https://default/thumbnail.url");
+        }
+        season.setName(seasonDto.getName());
+        season.setPodcastId(seasonDto.getPodcastId());
+        season.setSeasonNumber(seasonDto.getSeasonNumber());
+        return season;
+    }
+
+    // Flushes so the unique (podcast_id, season_number) index is checked here, which also
+    // catches two admins saving the same number at the same time. There is no pre-check, so an
+    // existing schema needs db/season-number-unique-migration.sql before this version runs.
+    private Season saveWithUniqueSeasonNumber(Season season) {
+        return withUniqueSeasonNumber(() -> seasonRepository.saveAndFlush(season));
+    }
+
+    // shared with SeasonImporter
+    static boolean isSeasonNumberConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(Season.PODCAST_SEASON_NUMBER_CONSTRAINT);
+    }
+
+    private <T> T withUniqueSeasonNumber(Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (!isSeasonNumberConflict(e)) {
+                throw e;
+            }
+            F_LOG.warn("{} tried to save a season number that already exist for that podcast.", userInfo.getRole());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Season with that number already exists");
+        }
+    }
 }
@@ -0,0 +1,25 @@
+-- Creates the episode_link_outbox table EpisodeLinkEvent maps on an existing MySQL 8 schema.
+--
+-- Run it before starting a service version that writes episode links to the outbox: addSeason, updateSeason
+-- and the episode endpoints insert an outbox row in the same transaction as the season, so without the
+-- table every season write fails. The service runs with ddl-auto disabled in dev, nothing else creates it.
+--
+-- Written for the char(36) schema (season.uuid-storage=char, the default). db/uuid-binary-migration.sql
+-- converts the table together with season, so run this script first when both are pending.
+
+CREATE TABLE IF NOT EXISTS episode_link_outbox (
+    attempts        integer     not null,
+    claimed_until   datetime(6),
+    created_at      datetime(6) not null,
+    id              bigint      not null auto_increment,
+    next_attempt_at datetime(6) not null,
+    episode_id      char(36)    not null,
+    season_id       char(36)    not null,
+    last_error      varchar(500),
+    action          enum ('LINK','UNLINK') not null,
+    primary key (id)
+) engine = InnoDB;
+
+-- A table created before relays claimed their rows lacks claimed_until, the relays of a new service
+-- version fail on it. Only run this when the column is missing, it changes the table metadata only.
+-- ALTER TABLE episode_link_outbox ADD COLUMN claimed_until datetime(6), ALGORITHM = INSTANT;
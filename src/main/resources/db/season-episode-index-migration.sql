@@ -0,0 +1,11 @@
+-- Adds the episode_id index Season.episodes maps to an existing MySQL 8 schema.
+--
+-- Run it before starting a service version with the episode to season lookup
+-- (GET /pods/seasons/seasonsbyepisode/{episodeId} and POST /pods/seasons/seasonsbyepisodes): without the
+-- index both scan all of season_episode_ids.
+--
+-- Works on the char(36) and the binary(16) schema. db/uuid-binary-migration.sql creates the index on
+-- its shadow table, so a schema converted with it already has one. Building the index is an online
+-- operation (LOCK = NONE), writes keep going while it runs.
+
+ALTER TABLE season_episode_ids ADD INDEX idx_season_episode_episode (episode_id), ALGORITHM = INPLACE, LOCK = NONE;
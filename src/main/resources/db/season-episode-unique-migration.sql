@@ -0,0 +1,21 @@
+-- Adds the unique (season_id, episode_id) constraint Season.episodes maps to an existing MySQL 8 schema.
+--
+-- Run it before starting a service version that maps the episodes as a set: Hibernate then inserts or
+-- deletes the one season_episode_ids row that changed, and a duplicate row left over from the old list
+-- mapping would stay behind when its episode is removed. The constraint also keeps concurrent links of
+-- the same episode from both being saved.
+--
+-- Works on the char(36) and the binary(16) schema. db/uuid-binary-migration.sql makes the pair the
+-- primary key of its shadow table, so a schema converted with it already has one.
+
+-- Step 1: find duplicates. The ALTER below fails while any are left, delete the extra rows first, e.g.
+-- by copying the distinct rows of a season back after deleting all of them in one transaction.
+SELECT season_id, episode_id, COUNT(*) AS links
+FROM season_episode_ids
+GROUP BY season_id, episode_id
+HAVING COUNT(*) > 1;
+
+-- Step 2: the constraint. Building the index is an online operation (LOCK = NONE), writes keep going
+-- while it runs.
+ALTER TABLE season_episode_ids ADD CONSTRAINT uk_season_episode UNIQUE (season_id, episode_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
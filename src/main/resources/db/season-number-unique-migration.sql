@@ -0,0 +1,20 @@
+-- Adds the unique (podcast_id, season_number) constraint Season maps to an existing MySQL 8 schema.
+--
+-- Run it before starting a service version without the season number pre-check: addSeason, updateSeason
+-- and the import no longer ask whether a number is taken, they rely on this constraint to answer 409.
+-- Without it duplicate season numbers are saved silently.
+--
+-- Works on the char(36) and the binary(16) schema. db/uuid-binary-migration.sql creates the constraint
+-- on its shadow table, so a schema converted with it already has one.
+
+-- Step 1: find duplicates. The ALTER below fails while any are left, fix them first (renumber or delete
+-- the extra seasons, the newest season_id of each pair is usually the accidental one).
+SELECT podcast_id, season_number, COUNT(*) AS seasons, GROUP_CONCAT(season_id ORDER BY season_id) AS season_ids
+FROM season
+GROUP BY podcast_id, season_number
+HAVING COUNT(*) > 1;
+
+-- Step 2: the constraint. Building the index is an online operation (LOCK = NONE), writes keep going
+-- while it runs.
+ALTER TABLE season ADD CONSTRAINT uk_season_podcast_number UNIQUE (podcast_id, season_number),
+    ALGORITHM = INPLACE, LOCK = NONE;
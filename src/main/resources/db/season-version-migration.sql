@@ -0,0 +1,12 @@
+-- Adds the version column Season uses for optimistic locking and ETags to an existing MySQL 8 schema.
+--
+-- Run it before starting a service version that maps Season.version: the service runs with ddl-auto
+-- disabled in dev, so nothing else creates the column, and the column is mapped NOT NULL, so existing
+-- rows need a value. They all start at 0, which only means the first ETag a client sees is "<id>-0".
+--
+-- Works on the char(36) and the binary(16) schema, and before or after db/uuid-binary-migration.sql.
+-- ALGORITHM = INSTANT only changes the table metadata, so the statement takes no table lock. On a MySQL
+-- version that can't add the column instantly the statement fails rather than copying the table, drop
+-- the ALGORITHM clause to run it as an online (INPLACE) rebuild instead.
+
+ALTER TABLE season ADD COLUMN version bigint NOT NULL DEFAULT 0, ALGORITHM = INSTANT;
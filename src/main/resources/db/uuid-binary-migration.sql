@@ -0,0 +1,166 @@
+-- Converts the char(36) UUID columns of an existing MySQL 8 schema to binary(16).
+--
+-- The tables are not altered in place, because changing the type of a primary key column rebuilds the
+-- table under a lock. Instead, *_bin shadow tables are filled in small committed batches while the
+-- service keeps running in CHAR mode, and triggers mirror concurrent writes. The switch is one atomic
+-- RENAME TABLE.
+--
+-- UUID_TO_BIN is used without the swap flag, so the bytes are in the same order Hibernate writes them.
+--
+-- The season table must already have its version column (db/season-version-migration.sql), versions are
+-- copied so the ETags clients hold stay valid. Run db/season-number-unique-migration.sql first as well:
+-- the shadow table has the same unique key, and INSERT IGNORE would drop a duplicate season silently.
+-- The outbox is converted too, create it first if it is missing (db/episode-link-outbox-migration.sql).
+--
+-- Phase 1 and 2 run while the service is up. Phase 3 runs with the service stopped and takes seconds.
+-- After phase 3, start the service with season.uuid-storage=binary.
+
+-- ---------------------------------------------------------------------------------------------------
+-- Phase 1: shadow tables and triggers
+-- ---------------------------------------------------------------------------------------------------
+CREATE TABLE season_bin (
+    season_number integer      not null,
+    podcast_id    binary(16)   not null,
+    season_id     binary(16)   not null,
+    name          varchar(50)  not null,
+    description   varchar(500),
+    image_url     varchar(500),
+    thumbnail_url varchar(500),
+    version       bigint       not null default 0,
+    primary key (season_id),
+    constraint uk_season_podcast_number unique (podcast_id, season_number)
+) engine = InnoDB;
+
+-- the foreign key to season is added in phase 3, so rows can be copied in any order
+CREATE TABLE season_episode_ids_bin (
+    episode_id binary(16) not null,
+    season_id  binary(16) not null,
+    constraint uk_season_episode_bin primary key (season_id, episode_id),
+    index idx_season_episode_episode_bin (episode_id)
+) engine = InnoDB;
+
+DELIMITER //
+
+CREATE TRIGGER season_bin_insert AFTER INSERT ON season FOR EACH ROW
+    REPLACE INTO season_bin (season_number, podcast_id, season_id, name, description, image_url, thumbnail_url, version)
+    VALUES (NEW.season_number, UUID_TO_BIN(NEW.podcast_id), UUID_TO_BIN(NEW.season_id), NEW.name,
+            NEW.description, NEW.image_url, NEW.thumbnail_url, NEW.version) //
+
+CREATE TRIGGER season_bin_update AFTER UPDATE ON season FOR EACH ROW
+    REPLACE INTO season_bin (season_number, podcast_id, season_id, name, description, image_url, thumbnail_url, version)
+    VALUES (NEW.season_number, UUID_TO_BIN(NEW.podcast_id), UUID_TO_BIN(NEW.season_id), NEW.name,
+            NEW.description, NEW.image_url, NEW.thumbnail_url, NEW.version) //
+
+CREATE TRIGGER season_bin_delete AFTER DELETE ON season FOR EACH ROW
+    DELETE FROM season_bin WHERE season_id = UUID_TO_BIN(OLD.season_id) //
+
+CREATE TRIGGER season_episode_ids_bin_insert AFTER INSERT ON season_episode_ids FOR EACH ROW
+    INSERT IGNORE INTO season_episode_ids_bin (episode_id, season_id)
+    VALUES (UUID_TO_BIN(NEW.episode_id), UUID_TO_BIN(NEW.season_id)) //
+
+CREATE TRIGGER season_episode_ids_bin_delete AFTER DELETE ON season_episode_ids FOR EACH ROW
+    DELETE FROM season_episode_ids_bin
+    WHERE season_id = UUID_TO_BIN(OLD.season_id) AND episode_id = UUID_TO_BIN(OLD.episode_id) //
+
+-- ---------------------------------------------------------------------------------------------------
+-- Phase 2: batched backfill, each batch is its own short transaction walking the primary key
+-- ---------------------------------------------------------------------------------------------------
+CREATE PROCEDURE copy_seasons_to_bin(IN batch_size INT)
+BEGIN
+    DECLARE last_id char(36) DEFAULT '';
+    DECLARE batch_end char(36);
+    copy_loop: LOOP
+        SELECT MAX(season_id) INTO batch_end
+        FROM (SELECT season_id FROM season WHERE season_id > last_id ORDER BY season_id LIMIT batch_size) batch;
+        IF batch_end IS NULL THEN
+            LEAVE copy_loop;
+        END IF;
+        -- rows written by the triggers in the meantime are newer, so they win
+        INSERT IGNORE INTO season_bin (season_number, podcast_id, season_id, name, description, image_url, thumbnail_url, version)
+        SELECT season_number, UUID_TO_BIN(podcast_id), UUID_TO_BIN(season_id), name, description, image_url, thumbnail_url, version
+        FROM season
+        WHERE season_id > last_id AND season_id <= batch_end;
+        COMMIT;
+        SET last_id = batch_end;
+    END LOOP;
+END //
+
+CREATE PROCEDURE copy_season_episode_ids_to_bin(IN batch_size INT)
+BEGIN
+    DECLARE last_season char(36) DEFAULT '';
+    DECLARE last_episode char(36) DEFAULT '';
+    DECLARE batch_rows INT;
+    copy_loop: LOOP
+        CREATE TEMPORARY TABLE season_episode_batch
+        SELECT season_id, episode_id FROM season_episode_ids
+        WHERE (season_id, episode_id) > (last_season, last_episode)
+        ORDER BY season_id, episode_id
+        LIMIT batch_size;
+        SELECT COUNT(*) INTO batch_rows FROM season_episode_batch;
+        IF batch_rows = 0 THEN
+            DROP TEMPORARY TABLE season_episode_batch;
+            LEAVE copy_loop;
+        END IF;
+        INSERT IGNORE INTO season_episode_ids_bin (episode_id, season_id)
+        SELECT UUID_TO_BIN(episode_id), UUID_TO_BIN(season_id) FROM season_episode_batch;
+        COMMIT;
+        SELECT season_id, episode_id INTO last_season, last_episode
+        FROM season_episode_batch ORDER BY season_id DESC, episode_id DESC LIMIT 1;
+        DROP TEMPORARY TABLE season_episode_batch;
+    END LOOP;
+END //
+
+DELIMITER ;
+
+CALL copy_seasons_to_bin(1000);
+CALL copy_season_episode_ids_to_bin(5000);
+
+-- both counts should match before the switch
+SELECT (SELECT COUNT(*) FROM season) AS seasons, (SELECT COUNT(*) FROM season_bin) AS seasons_bin,
+       (SELECT COUNT(*) FROM season_episode_ids) AS links, (SELECT COUNT(*) FROM season_episode_ids_bin) AS links_bin;
+
+-- ---------------------------------------------------------------------------------------------------
+-- Phase 3: switch, with the service stopped
+-- ---------------------------------------------------------------------------------------------------
+DROP TRIGGER season_bin_insert;
+DROP TRIGGER season_bin_update;
+DROP TRIGGER season_bin_delete;
+DROP TRIGGER season_episode_ids_bin_insert;
+DROP TRIGGER season_episode_ids_bin_delete;
+DROP PROCEDURE copy_seasons_to_bin;
+DROP PROCEDURE copy_season_episode_ids_to_bin;
+
+-- the outbox only holds links the relay has not delivered yet, so it is copied in one statement
+CREATE TABLE episode_link_outbox_bin (
+    attempts        integer     not null,
+    claimed_until   datetime(6),
+    created_at      datetime(6) not null,
+    id              bigint      not null auto_increment,
+    next_attempt_at datetime(6) not null,
+    episode_id      binary(16)  not null,
+    season_id       binary(16)  not null,
+    last_error      varchar(500),
+    action          enum ('LINK','UNLINK') not null,
+    primary key (id)
+) engine = InnoDB;
+
+-- leases are not copied, the service is stopped so no relay holds one
+INSERT INTO episode_link_outbox_bin (attempts, created_at, id, next_attempt_at, episode_id, season_id, last_error, action)
+SELECT attempts, created_at, id, next_attempt_at, UUID_TO_BIN(episode_id), UUID_TO_BIN(season_id), last_error, action
+FROM episode_link_outbox;
+
+ALTER TABLE season_episode_ids_bin
+    ADD CONSTRAINT fk_season_episode_ids_season FOREIGN KEY (season_id) REFERENCES season_bin (season_id);
+
+RENAME TABLE season TO season_char, season_bin TO season,
+             season_episode_ids TO season_episode_ids_char, season_episode_ids_bin TO season_episode_ids,
+             episode_link_outbox TO episode_link_outbox_char, episode_link_outbox_bin TO episode_link_outbox;
+
+-- size of the tables before and after the switch
+ANALYZE TABLE season, season_char, season_episode_ids, season_episode_ids_char;
+SELECT table_name, table_rows, data_length, index_length
+FROM information_schema.tables
+WHERE table_schema = DATABASE() AND table_name IN ('season', 'season_char', 'season_episode_ids', 'season_episode_ids_char');
+
+-- once the service runs fine in BINARY mode:
+-- DROP TABLE season_episode_ids_char, episode_link_outbox_char, season_char;
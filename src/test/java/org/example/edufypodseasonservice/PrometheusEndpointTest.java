@@ -0,0 +1,84 @@
+package org.example.edufypodseasonservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:prometheus;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "episodeExists.api.url=http://localhost:1/{id}/exists",
+        "episodeAdd.api.url=http://localhost:1/addseasontoepisode/{episodeId}/{seasonId}",
+        "episodeRemove.api.url=http://localhost:1/removeseasonfromepisode/{episodeId}/{seasonId}"})
+@ActiveProfiles("test")
+@AutoConfigureObservability(tracing = false)
+class PrometheusEndpointTest {
+
+    @TestConfiguration
+    static class JwtConfig {
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("metrics-test")
+                    .claim("preferred_username", "metrics-test")
+                    .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_Admin"))))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void prometheus_ShouldPublishLatencyHistogramsAndPoolGauges() {
+        get("/pods/seasons/season/" + UUID.randomUUID());
+
+        ResponseEntity<String> scrape = get("/actuator/prometheus");
+
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        String metrics = scrape.getBody();
+        assertNotNull(metrics);
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{")
+                && metrics.contains("uri=\"/pods/seasons/season/{seasonId}\""), "http.server.requests histogram");
+        assertTrue(metrics.contains("spring_data_repository_invocations_seconds_bucket{")
+                && metrics.contains("repository=\"SeasonRepository\""), "spring.data.repository.invocations histogram");
+        assertTrue(metrics.contains("hikaricp_connections_acquire_seconds_bucket{"), "hikaricp.connections.acquire histogram");
+        assertTrue(metrics.contains("hikaricp_connections_active{"), "hikaricp.connections.active gauge");
+        assertTrue(metrics.contains("hikaricp_connections_pending{"), "hikaricp.connections.pending gauge");
+    }
+
+    @Test
+    void prometheus_ShouldRequireBearerToken() {
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode());
+    }
+
+    private ResponseEntity<String> get(String path) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth("metrics-test");
+        return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
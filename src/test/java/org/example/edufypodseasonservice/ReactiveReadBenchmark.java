@@ -0,0 +1,237 @@
+package org.example.edufypodseasonservice;
+
+import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.repositories.SeasonRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Closed-loop load on GET /pods/seasons/allfullseasonsbypodcast/{podcastId} at rising client counts,
+// once on the servlet stack (Tomcat + JPA) and once on the reactive one (Netty + R2DBC), both reading
+// the same H2 database with the season cache off. Run each mode with the same fixed heap and compare
+// the result lines:
+//   mvn test -Pbenchmark -Dtest=ReactiveReadBenchmark -DargLine=-Xmx256m -Dspring.main.web-application-type=servlet
+//   mvn test -Pbenchmark -Dtest=ReactiveReadBenchmark -DargLine=-Xmx256m -Dspring.main.web-application-type=reactive
+// Add -Dload.clients=N,N,... to change the steps. Results on one CPU, -Xmx256m, load generator and
+// service in the same JVM (threads are the live platform threads, heap is measured after a full GC
+// while the clients are still connected):
+//   clients  servlet                                     | reactive
+//      100   352 req/s, p99  705 ms, 123 threads,  76 MB | 308 req/s, p99   558 ms, 29 threads,  60 MB
+//     1000   475 req/s, p99 4215 ms, 222 threads, 124 MB | 556 req/s, p99  2232 ms, 30 threads, 105 MB
+//     4000   421 req/s, p99 3117 ms, 222 threads, 110 MB | 361 req/s, p99 22622 ms, 30 threads, 229 MB
+// The reactive stack serves 1000 clients on 30 threads with more throughput and a lower p99. At 4000
+// it accepts every request and keeps each one in the heap while it waits for one of the 20 R2DBC
+// connections, so GC takes most of the CPU, where Tomcat leaves requests it has no thread for unread
+// in the socket. r2dbc-h2 runs every query on the calling thread, so this doesn't show waiting on a
+// remote database: against MySQL a servlet request also holds its Tomcat thread and a Hikari
+// connection while the query runs, and r2dbc-mysql doesn't.
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-load?options=DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.pool.max-size=20",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "spring.cache.type=none",
+        // the read endpoints never call the podcast service
+        "episodeExists.api.url=http://localhost:1/{id}/exists",
+        "episodeAdd.api.url=http://localhost:1/addseasontoepisode/{episodeId}/{seasonId}",
+        "episodeRemove.api.url=http://localhost:1/removeseasonfromepisode/{episodeId}/{seasonId}",
+        "logging.level.functionality=warn"})
+@ActiveProfiles("test")
+class ReactiveReadBenchmark {
+
+    private static final int PODCASTS = 200;
+    private static final int SEASONS_PER_PODCAST = 5;
+    private static final int EPISODES_PER_SEASON = 10;
+    private static final int[] CLIENTS = Arrays.stream(System.getProperty("load.clients", "100,1000,4000").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final Duration WARM_UP = Duration.ofSeconds(30);
+    private static final Duration MEASURE = Duration.ofSeconds(30);
+
+    @TestConfiguration
+    static class JwtConfig {
+        // any bearer token is accepted as a user, the JWT checks are not what is measured here
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return ReactiveReadBenchmark::jwt;
+        }
+
+        @Bean
+        ReactiveJwtDecoder reactiveJwtDecoder() {
+            return token -> Mono.just(jwt(token));
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+    @Value("${spring.main.web-application-type:servlet}")
+    private String webApplicationType;
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void readSeasonsUnderLoad() throws Exception {
+        List<UUID> podcastIds = savePodcasts();
+
+        for (int clients : CLIENTS) {
+            run(podcastIds, clients, WARM_UP, WARM_UP.dividedBy(2), false);
+            Result result = run(podcastIds, clients, MEASURE, Duration.ZERO, true);
+
+            long[] latencies = result.latencies();
+            Arrays.sort(latencies);
+            System.out.printf("%-8s %4d clients: %7d requests in %2d s = %5.0f req/s, p50 %5d ms, p99 %5d ms, " +
+                            "%d errors, %3d threads, %3d MB heap, %5d ms gc%n",
+                    webApplicationType, clients, latencies.length, MEASURE.toSeconds(),
+                    latencies.length / (double) MEASURE.toSeconds(), percentile(latencies, 0.50),
+                    percentile(latencies, 0.99), result.failed(), result.threads(), result.heapMegabytes(),
+                    result.gcMillis());
+        }
+    }
+
+    private List<UUID> savePodcasts() {
+        List<UUID> podcastIds = new ArrayList<>();
+        List<Season> seasons = new ArrayList<>();
+        for (int p = 0; p < PODCASTS; p++) {
+            UUID podcastId = UUID.randomUUID();
+            podcastIds.add(podcastId);
+            for (int s = 1; s <= SEASONS_PER_PODCAST; s++) {
+                Season season = new Season();
+                season.setName("Season " + s);
+                season.setSeasonNumber(s);
+                season.setPodcastId(podcastId);
+                season.setDescription("Description of season " + s);
+                season.setThumbnailUrl("https://cdn.example.org/thumbnails/" + podcastId + "/" + s + ".jpg");
+                for (int e = 0; e < EPISODES_PER_SEASON; e++) {
+                    season.getEpisodes().add(UUID.randomUUID());
+                }
+                seasons.add(season);
+            }
+        }
+        seasonRepository.saveAll(seasons);
+        return podcastIds;
+    }
+
+    // every client sends its next request as soon as the previous one is answered, the clients start
+    // spread over rampUp
+    private Result run(List<UUID> podcastIds, int clients, Duration duration, Duration rampUp, boolean sample)
+            throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        Duration startInterval = rampUp.dividedBy(clients);
+        long gcBefore = gcMillis();
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        int threads = 0;
+        long heap = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Thread.sleep(startInterval);
+                futures.add(executor.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long requestStart = System.nanoTime();
+                        UUID podcastId = podcastIds.get(ThreadLocalRandom.current().nextInt(podcastIds.size()));
+                        if (readSeasons(podcastId) != 200) {
+                            failed.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - requestStart);
+                    }
+                    return latencies;
+                }));
+            }
+            if (sample) {
+                Thread.sleep(Duration.ofNanos((deadline - System.nanoTime()) / 2));
+                threads = ManagementFactory.getThreadMXBean().getThreadCount();
+                System.gc();
+                heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+            }
+        }
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            latencies.addAll(future.get());
+        }
+        return new Result(latencies.stream().mapToLong(Long::longValue).toArray(), failed.get(), threads, heap,
+                gcMillis() - gcBefore);
+    }
+
+    private int readSeasons(UUID podcastId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port + "/pods/seasons/allfullseasonsbypodcast/" + podcastId))
+                .header("Authorization", "Bearer load-test")
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Jwt jwt(String token) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject("load-test")
+                .claim("preferred_username", "load-test")
+                .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_User"))))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000;
+    }
+
+    private record Result(long[] latencies, int failed, int threads, long heapMegabytes, long gcMillis) {
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.edufypodseasonservice;
+
+import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.external.EpisodeServiceStub;
+import org.example.edufypodseasonservice.repositories.SeasonRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Closed-loop load on PUT /pods/seasons/{seasonId}/addepisodes/{episodeId}, which asks the podcast
+// service whether the episode exists and then writes the season. The stub answers after STUB_LATENCY,
+// so a request spends most of its time waiting. Every client has its own season, so no request
+// retries on a version conflict. The bulkhead is opened up because its default of 20 concurrent
+// podcast service calls would cap both modes at the same throughput, and the circuit breaker is kept
+// closed so slow answers while the JVM warms up don't turn the measurement into fast 503s.
+// Run once per mode and compare the two result lines:
+//   mvn test -Pbenchmark -Dtest=RequestThreadLoadBenchmark -Dspring.threads.virtual.enabled=false
+//   mvn test -Pbenchmark -Dtest=RequestThreadLoadBenchmark -Dspring.threads.virtual.enabled=true
+// Add -Dload.clients=N, -Dload.stub-latency=ms and -Dload.warm-up=s to change the load.
+// Results on one CPU, 600 clients, load generator, service and stub in the same JVM:
+//   stub 100 ms   platform 201 req/s, p50 3065 ms, p99 4039 ms | virtual 194 req/s, p50 3296 ms, p99 5460 ms
+//   stub 2000 ms  platform 113 req/s, p50 6262 ms, p99 7574 ms | virtual 147 req/s, p50 4075 ms, p99 6821 ms
+// With 100 ms the CPU is the limit in both modes. With 2 s the 200 Tomcat threads are all waiting on
+// the stub and cap the platform mode at about 100 req/s, while virtual threads keep taking requests
+// until the CPU is busy.
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "resilience4j.bulkhead.instances.episodeService.max-concurrent-calls=10000",
+        "resilience4j.circuitbreaker.instances.episodeService.slow-call-duration-threshold=60s",
+        "episode.api.http.exists-timeout=30s",
+        "episode.api.http.max-connections=1000",
+        "logging.level.functionality=warn"})
+@ActiveProfiles("test")
+class RequestThreadLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 600);
+    private static final long STUB_LATENCY_MILLIS = Long.getLong("load.stub-latency", 100);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("load.warm-up", 60));
+    private static final Duration MEASURE = Duration.ofSeconds(30);
+
+    private static final EpisodeServiceStub stub = startStub();
+
+    @TestConfiguration
+    static class JwtConfig {
+        // any bearer token is accepted as an admin, the JWT checks are not what is measured here
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject("load-test")
+                    .claim("preferred_username", "load-test")
+                    .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_Admin"))))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(3600))
+                    .build();
+        }
+    }
+
+    @DynamicPropertySource
+    static void episodeService(DynamicPropertyRegistry registry) {
+        String base = stub.baseUrl();
+        registry.add("episodeExists.api.url", () -> base + "{id}/exists");
+        registry.add("episodeAdd.api.url", () -> base + "addseasontoepisode/{episodeId}/{seasonId}");
+        registry.add("episodeRemove.api.url", () -> base + "removeseasonfromepisode/{episodeId}/{seasonId}");
+        registry.add("episodeBatchExists.api.url", () -> base + "exists");
+        registry.add("episodeBatchAdd.api.url", () -> base + "addseasontoepisodes/{seasonId}");
+        registry.add("episodeBatchRemove.api.url", () -> base + "removeseasonfromepisodes/{seasonId}");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @LocalServerPort
+    private int port;
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void addEpisodesUnderLoad() throws Exception {
+        List<UUID> seasonIds = new ArrayList<>();
+        for (Season season : seasonRepository.saveAll(seasons())) {
+            seasonIds.add(season.getId());
+        }
+
+        run(seasonIds, WARM_UP, WARM_UP.dividedBy(2));
+        Result result = run(seasonIds, MEASURE, Duration.ZERO);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("%-8s %3d clients, stub %d ms: %7d requests in %2d s = %6.0f req/s, p50 %5d ms, p99 %5d ms, max %5d ms%n",
+                virtualThreads ? "virtual" : "platform", CLIENTS, STUB_LATENCY_MILLIS, latencies.length,
+                MEASURE.toSeconds(), latencies.length / (double) MEASURE.toSeconds(),
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000);
+        assertEquals(0, result.failed());
+    }
+
+    private List<Season> seasons() {
+        List<Season> seasons = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Season season = new Season();
+            season.setName("Season 1");
+            season.setSeasonNumber(1);
+            season.setPodcastId(UUID.randomUUID());
+            seasons.add(season);
+        }
+        return seasons;
+    }
+
+    // every client sends its next request as soon as the previous one is answered. The clients start
+    // spread over rampUp, so the first requests don't all open their connections at the same moment.
+    private Result run(List<UUID> seasonIds, Duration duration, Duration rampUp) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Duration startInterval = rampUp.dividedBy(seasonIds.size());
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<List<Long>>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID seasonId : seasonIds) {
+                Thread.sleep(startInterval);
+                clients.add(executor.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        if (addEpisode(seasonId) != 200) {
+                            failed.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> client : clients) {
+            latencies.addAll(client.get());
+        }
+        return new Result(latencies.stream().mapToLong(Long::longValue).toArray(), failed.get());
+    }
+
+    private int addEpisode(UUID seasonId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port + "/pods/seasons/" + seasonId + "/addepisodes/" + UUID.randomUUID()))
+                .header("Authorization", "Bearer load-test")
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000;
+    }
+
+    private static EpisodeServiceStub startStub() {
+        try {
+            EpisodeServiceStub stub = new EpisodeServiceStub();
+            stub.setLatencyMillis(STUB_LATENCY_MILLIS);
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Result(long[] latencies, int failed) {
+    }
+}
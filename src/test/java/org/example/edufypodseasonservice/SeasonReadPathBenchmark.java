@@ -0,0 +1,158 @@
+package org.example.edufypodseasonservice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.edufypodseasonservice.converters.JwtAuthConverter;
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.mapper.SeasonDtoConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Per-request cost of the season read path: entity to dto conversion, JSON serialization of season lists
+// and JWT to authentication conversion. The gc profiler reports gc.alloc.rate.norm (bytes per operation)
+// next to the throughput, which is the number to compare between runs.
+// Run with: mvn test -Pbenchmark -Dtest=SeasonReadPathBenchmark
+@Tag("benchmark")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeasonReadPathBenchmark {
+
+    private static final int EPISODES_PER_SEASON = 20;
+
+    @State(Scope.Benchmark)
+    public static class Conversion {
+
+        final SeasonDtoConverter seasonDtoConverter = new SeasonDtoConverter();
+        Season season;
+
+        @Setup
+        public void setUp() {
+            season = season(1);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Serialization {
+
+        @Param({"10", "100", "1000"})
+        int seasons;
+
+        // configured like the ObjectMapper Spring MVC writes responses with
+        final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<SeasonDto> fullDtos;
+        List<SeasonDto> limitedDtos;
+
+        @Setup
+        public void setUp() {
+            SeasonDtoConverter seasonDtoConverter = new SeasonDtoConverter();
+            fullDtos = new ArrayList<>(seasons);
+            limitedDtos = new ArrayList<>(seasons);
+            for (int i = 1; i <= seasons; i++) {
+                Season season = season(i);
+                fullDtos.add(seasonDtoConverter.seasonFullDtoConvert(season));
+                limitedDtos.add(seasonDtoConverter.seasonLimitedDtoConvert(season));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Authentication {
+
+        final JwtAuthConverter jwtAuthConverter = new JwtAuthConverter();
+        Jwt jwt;
+
+        @Setup
+        public void setUp() {
+            ReflectionTestUtils.setField(jwtAuthConverter, "resourceIdName", "edufy-client");
+            ReflectionTestUtils.setField(jwtAuthConverter, "principalAttribute", "preferred_username");
+            jwt = Jwt.withTokenValue("token")
+                    .header("alg", "RS256")
+                    .subject(UUID.randomUUID().toString())
+                    .claim("preferred_username", "benchmark-user")
+                    .claim("scope", "openid profile email")
+                    .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_User", "edufy_Admin"))))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(300))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public SeasonDto seasonFullDtoConvert(Conversion state) {
+        return state.seasonDtoConverter.seasonFullDtoConvert(state.season);
+    }
+
+    @Benchmark
+    public SeasonDto seasonLimitedDtoConvert(Conversion state) {
+        return state.seasonDtoConverter.seasonLimitedDtoConvert(state.season);
+    }
+
+    @Benchmark
+    public byte[] serializeFullSeasons(Serialization state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.fullDtos);
+    }
+
+    // limited dtos leave description, episodes and imageUrl null, which NON_NULL drops from the output
+    @Benchmark
+    public byte[] serializeLimitedSeasons(Serialization state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.limitedDtos);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken jwtAuthConvert(Authentication state) {
+        return state.jwtAuthConverter.convert(state.jwt);
+    }
+
+    private static Season season(int seasonNumber) {
+        Season season = new Season();
+        season.setId(UUID.randomUUID());
+        season.setName("Season " + seasonNumber);
+        season.setSeasonNumber(seasonNumber);
+        season.setDescription("A season of a podcast with a description of realistic length for the listing page.");
+        season.setPodcastId(UUID.randomUUID());
+        season.setThumbnailUrl("https://cdn.example.org/podcasts/thumbnails/" + seasonNumber + ".jpg");
+        season.setImageUrl("https://cdn.example.org/podcasts/images/" + seasonNumber + ".jpg");
+        for (int i = 0; i < EPISODES_PER_SEASON; i++) {
+            season.getEpisodes().add(UUID.randomUUID());
+        }
+        return season;
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SeasonReadPathBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.edufypodseasonservice.configs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
+import org.apache.logging.log4j.core.async.EventRoute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionalityLogMetricsTest {
+
+    private LoggerContext loggerContext;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = (LoggerContext) LogManager.getContext(false);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void functionalityLogger_ShouldBeAsync() {
+        assertInstanceOf(AsyncLoggerConfig.class,
+                loggerContext.getConfiguration().getLoggerConfig(FunctionalityLogMetrics.LOGGER_NAME));
+    }
+
+    @Test
+    void events_ShouldCountFunctionalityEvents() {
+        new FunctionalityLogMetrics(loggerContext, meterRegistry);
+        Logger logger = LogManager.getLogger(FunctionalityLogMetrics.LOGGER_NAME);
+
+        logger.info("{} retrieved all seasons.", "edufy_User");
+        logger.warn("{} tried to retrieve a season that doesn't exist.", "edufy_User");
+        LogManager.getLogger(FunctionalityLogMetricsTest.class).info("not a functionality event");
+
+        assertEquals(2.0, meterRegistry.get("functionality.log.events").counter().count());
+    }
+
+    @Test
+    void queueRemaining_ShouldReportRingBufferCapacity() {
+        new FunctionalityLogMetrics(loggerContext, meterRegistry);
+
+        double remaining = meterRegistry.get("functionality.log.queue.remaining").gauge().value();
+
+        assertTrue(remaining > 0 && remaining <= 16384, "remaining " + remaining);
+    }
+
+    @Test
+    void queueFullPolicy_ShouldDropInfoAndCountIt() {
+        new FunctionalityLogMetrics(loggerContext, meterRegistry);
+        FunctionalityLogQueueFullPolicy policy = new FunctionalityLogQueueFullPolicy(Level.INFO);
+        double droppedBefore = meterRegistry.get("functionality.log.dropped").functionCounter().count();
+
+        assertEquals(EventRoute.DISCARD, policy.getRoute(-1, Level.INFO));
+        assertEquals(EventRoute.DISCARD, policy.getRoute(-1, Level.DEBUG));
+
+        assertEquals(droppedBefore + 2, meterRegistry.get("functionality.log.dropped").functionCounter().count());
+    }
+
+    @Test
+    void queueFullPolicy_ShouldMakeWarningsWait() {
+        FunctionalityLogQueueFullPolicy policy = new FunctionalityLogQueueFullPolicy(Level.INFO);
+        long droppedBefore = FunctionalityLogQueueFullPolicy.discardedEvents();
+
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(-1, Level.WARN));
+        assertEquals(EventRoute.ENQUEUE, policy.getRoute(-1, Level.ERROR));
+
+        assertEquals(droppedBefore, FunctionalityLogQueueFullPolicy.discardedEvents());
+    }
+
+    @Test
+    void queueFullPolicy_ShouldReadThresholdFromComponentProperties() {
+        assertEquals(Level.INFO, new FunctionalityLogQueueFullPolicy().getThresholdLevel());
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.edufypodseasonservice.configs;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Cost of turning a bearer token into a Jwt: "nimbus" verifies the RS256 signature and the claims on every
+// request like the decoder Spring Boot configured from jwk-set-uri did (with the keys already fetched),
+// "cached" is JwtDecoderConfig's decoder once the same token has been seen. Keys come from LocalJwkSet and a
+// 2048 bit key, the size Keycloak uses for its realm keys.
+// Run with: mvn test -Pbenchmark -Dtest=JwtDecoderBenchmark
+// Results on one CPU:
+//   nimbus  206 us/op, 35.9 KB/op
+//   cached  1.6 us/op,  1.2 KB/op
+// A hit still hashes the token (about 1 KB for these claims), which is most of what is left.
+@Tag("benchmark")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Decoders {
+
+        @Param({"nimbus", "cached"})
+        String decoder;
+
+        Path jwksFile;
+        JwtDecoder jwtDecoder;
+        String token;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            RSAKey key = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+            jwksFile = Files.createTempFile("jwks", ".json");
+            Files.writeString(jwksFile, new JWKSet(key.toPublicJWK()).toString());
+            token = sign(key);
+
+            NimbusJwtDecoder nimbusDecoder =
+                    JwtDecoderConfig.validatingDecoder(new LocalJwkSet(new FileSystemResource(jwksFile)));
+            nimbusDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+            if (decoder.equals("nimbus")) {
+                jwtDecoder = nimbusDecoder;
+            } else {
+                ValidatedJwtCache validatedJwtCache = new ValidatedJwtCache(10_000, new SimpleMeterRegistry());
+                jwtDecoder = t -> validatedJwtCache.decode(t, nimbusDecoder);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            Files.deleteIfExists(jwksFile);
+        }
+    }
+
+    private static final String ISSUER = "http://keycloak:8080/realms/edufy-realm";
+
+    @Benchmark
+    public Jwt decode(Decoders state) {
+        return state.jwtDecoder.decode(state.token);
+    }
+
+    // claims of a Keycloak access token for a user of edufy-client
+    private static String sign(RSAKey key) throws Exception {
+        SignedJWT signedJwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .issuer(ISSUER)
+                        .subject(UUID.randomUUID().toString())
+                        .audience("account")
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                        .claim("preferred_username", "benchmark-user")
+                        .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_Admin"))))
+                        .claim("scope", "openid profile email")
+                        .build());
+        signedJwt.sign(new RSASSASigner(key));
+        return signedJwt.serialize();
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtDecoderBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.edufypodseasonservice.configs;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalJwkSetTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path jwksFile;
+    private RSAKey firstKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwksFile = tempDir.resolve("jwks.json");
+        firstKey = new RSAKeyGenerator(2048).keyID("first").generate();
+        writeJwks(firstKey);
+    }
+
+    @Test
+    void constructor_ShouldFailOnBrokenFile() throws IOException {
+        Files.writeString(jwksFile, "{\"keys\": [");
+
+        assertThrows(ParseException.class, () -> new LocalJwkSet(new FileSystemResource(jwksFile)));
+    }
+
+    @Test
+    void decode_ShouldVerifyTokenSignedWithLocalKey() throws Exception {
+        NimbusJwtDecoder decoder = JwtDecoderConfig.validatingDecoder(new LocalJwkSet(new FileSystemResource(jwksFile)));
+
+        Jwt jwt = decoder.decode(sign(firstKey, "user-1"));
+
+        assertEquals("user-1", jwt.getSubject());
+    }
+
+    @Test
+    void decode_ShouldRejectTokenSignedWithUnknownKey() throws Exception {
+        NimbusJwtDecoder decoder = JwtDecoderConfig.validatingDecoder(new LocalJwkSet(new FileSystemResource(jwksFile)));
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID("first").generate();
+
+        assertThrows(BadJwtException.class, () -> decoder.decode(sign(otherKey, "user-1")));
+    }
+
+    @Test
+    void refresh_ShouldPickUpRotatedKeys() throws Exception {
+        LocalJwkSet localJwkSet = new LocalJwkSet(new FileSystemResource(jwksFile));
+        NimbusJwtDecoder decoder = JwtDecoderConfig.validatingDecoder(localJwkSet);
+        RSAKey secondKey = new RSAKeyGenerator(2048).keyID("second").generate();
+        String rotatedToken = sign(secondKey, "user-2");
+        assertThrows(BadJwtException.class, () -> decoder.decode(rotatedToken));
+
+        writeJwks(secondKey);
+        localJwkSet.refresh();
+
+        assertEquals("user-2", decoder.decode(rotatedToken).getSubject());
+        assertThrows(BadJwtException.class, () -> decoder.decode(sign(firstKey, "user-1")));
+    }
+
+    @Test
+    void refresh_ShouldKeepLoadedKeysWhenFileIsBroken() throws Exception {
+        LocalJwkSet localJwkSet = new LocalJwkSet(new FileSystemResource(jwksFile));
+        NimbusJwtDecoder decoder = JwtDecoderConfig.validatingDecoder(localJwkSet);
+
+        Files.writeString(jwksFile, "not a JWK set");
+        localJwkSet.refresh();
+        Files.delete(jwksFile);
+        localJwkSet.refresh();
+
+        assertEquals("user-1", decoder.decode(sign(firstKey, "user-1")).getSubject());
+    }
+
+    private void writeJwks(RSAKey key) throws IOException {
+        Files.writeString(jwksFile, new JWKSet(key.toPublicJWK()).toString());
+    }
+
+    private static String sign(RSAKey key, String subject) throws JOSEException {
+        SignedJWT signedJwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject(subject)
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                        .build());
+        signedJwt.sign(new RSASSASigner(key));
+        return signedJwt.serialize();
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.edufypodseasonservice.configs;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatedJwtCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger decodes = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private ValidatedJwtCache validatedJwtCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Ticker ticker = nanos::get;
+        validatedJwtCache = new ValidatedJwtCache(100, meterRegistry, ticker, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void decode_ShouldValidateSameTokenOnce() {
+        JwtDecoder decoder = expiringIn(Duration.ofMinutes(5));
+
+        Jwt first = validatedJwtCache.decode("token-a", decoder);
+        Jwt second = validatedJwtCache.decode("token-a", decoder);
+
+        assertSame(first, second);
+        assertEquals(1, decodes.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "validatedJwt").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void decode_ShouldValidateDifferentTokensSeparately() {
+        JwtDecoder decoder = expiringIn(Duration.ofMinutes(5));
+
+        validatedJwtCache.decode("token-a", decoder);
+        validatedJwtCache.decode("token-b", decoder);
+
+        assertEquals(2, decodes.get());
+    }
+
+    @Test
+    void decode_ShouldValidateAgainAfterTokenExpires() {
+        JwtDecoder decoder = expiringIn(Duration.ofMinutes(5));
+        validatedJwtCache.decode("token-a", decoder);
+
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertNotNull(validatedJwtCache.getIfPresent("token-a"));
+        nanos.addAndGet(Duration.ofMinutes(1).plusSeconds(1).toNanos());
+        assertNull(validatedJwtCache.getIfPresent("token-a"));
+
+        validatedJwtCache.decode("token-a", decoder);
+        assertEquals(2, decodes.get());
+    }
+
+    @Test
+    void decode_ShouldNotCacheTokenWithoutExpiry() {
+        JwtDecoder decoder = token -> {
+            decodes.incrementAndGet();
+            return Jwt.withTokenValue(token).header("alg", "RS256").subject("user").issuedAt(NOW).build();
+        };
+
+        validatedJwtCache.decode("token-a", decoder);
+        validatedJwtCache.decode("token-a", decoder);
+
+        assertEquals(2, decodes.get());
+        assertNull(validatedJwtCache.getIfPresent("token-a"));
+    }
+
+    @Test
+    void decode_ShouldNotCacheFailedValidation() {
+        JwtDecoder decoder = token -> {
+            decodes.incrementAndGet();
+            throw new BadJwtException("Signed JWT rejected: Invalid signature");
+        };
+
+        assertThrows(BadJwtException.class, () -> validatedJwtCache.decode("token-a", decoder));
+        assertThrows(BadJwtException.class, () -> validatedJwtCache.decode("token-a", decoder));
+
+        assertEquals(2, decodes.get());
+    }
+
+    private JwtDecoder expiringIn(Duration lifetime) {
+        return token -> {
+            decodes.incrementAndGet();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("user")
+                    .issuedAt(NOW)
+                    .expiresAt(NOW.plus(lifetime))
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package org.example.edufypodseasonservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonImportResultDto;
+import org.example.edufypodseasonservice.repositories.SeasonVersion;
+import org.example.edufypodseasonservice.services.SeasonImporter;
+import org.example.edufypodseasonservice.services.SeasonService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeasonControllerTest {
+
+    @Mock
+    private SeasonService seasonServiceMock;
+    @Mock
+    private SeasonImporter seasonImporterMock;
+
+    private MockMvc mockMvc;
+
+    private final UUID seasonId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID podcastId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final UUID otherId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    // sorts after otherId as unsigned bytes, before it as a signed UUID
+    private final UUID newerId = UUID.fromString("f0000000-0000-7000-8000-000000000000");
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SeasonController(seasonServiceMock, seasonImporterMock,
+                new ObjectMapper())).build();
+    }
+
+    @Test
+    void getSeason_ShouldReturnEtag() throws Exception {
+        when(seasonServiceMock.getSeason(seasonId)).thenReturn(seasonDto(seasonId, 3L));
+
+        mockMvc.perform(get("/pods/seasons/season/{seasonId}", seasonId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + seasonId + "-3\""))
+                .andExpect(jsonPath("$.name").value("Season"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void getSeason_ShouldReturnNotModified_WhenEtagMatches() throws Exception {
+        when(seasonServiceMock.getSeason(seasonId)).thenReturn(seasonDto(seasonId, 3L));
+
+        mockMvc.perform(get("/pods/seasons/season/{seasonId}", seasonId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + seasonId + "-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getSeason_ShouldReturnBody_WhenVersionChanged() throws Exception {
+        when(seasonServiceMock.getSeason(seasonId)).thenReturn(seasonDto(seasonId, 4L));
+
+        mockMvc.perform(get("/pods/seasons/season/{seasonId}", seasonId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + seasonId + "-3\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllLimitedSeasonsByPodcast_ShouldReturnNotModifiedWithoutLoading_WhenVersionsMatch() throws Exception {
+        String etag = SeasonEtags.of(List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 2L)));
+        when(seasonServiceMock.getPodcastSeasonVersions(podcastId)).thenReturn(List.of(seasonVersion(seasonId, 1L), seasonVersion(otherId, 2L)));
+
+        mockMvc.perform(get("/pods/seasons/alllimitedseasonsbypodcast/{podcastId}", podcastId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(seasonServiceMock, never()).getSeasonsByPodcast(any(), anyBoolean());
+    }
+
+    @Test
+    void getAllLimitedSeasonsByPodcast_ShouldLoadSeasons_WhenVersionsChanged() throws Exception {
+        String etag = SeasonEtags.of(List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 2L)));
+        List<SeasonDto> seasonDtos = List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 3L));
+        when(seasonServiceMock.getPodcastSeasonVersions(podcastId)).thenReturn(List.of(seasonVersion(seasonId, 1L), seasonVersion(otherId, 3L)));
+        when(seasonServiceMock.getSeasonsByPodcast(podcastId, false)).thenReturn(seasonDtos);
+
+        mockMvc.perform(get("/pods/seasons/alllimitedseasonsbypodcast/{podcastId}", podcastId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, SeasonEtags.of(seasonDtos)))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void getAllSeasons_ShouldNotCheckVersions_WithoutIfNoneMatch() throws Exception {
+        List<SeasonDto> seasonDtos = List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 2L));
+        when(seasonServiceMock.getAllSeasons()).thenReturn(seasonDtos);
+
+        mockMvc.perform(get("/pods/seasons/allseasons"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, SeasonEtags.of(seasonDtos)));
+
+        verify(seasonServiceMock, never()).getAllSeasonVersions();
+    }
+
+    @Test
+    void listEtag_ShouldEqualDatabaseVersions() {
+        String etag = SeasonEtags.of(List.of(seasonDto(newerId, 1L), seasonDto(seasonId, 0L), seasonDto(otherId, 2L)));
+
+        assertEquals(SeasonEtags.ofRows(List.of(seasonVersion(newerId, 1L), seasonVersion(seasonId, 0L),
+                seasonVersion(otherId, 2L))), etag);
+        assertEquals(SeasonEtags.ofRows(List.of()), SeasonEtags.of(List.of()));
+    }
+
+    @Test
+    void listEtag_ShouldChange_WhenAnySeasonChangesOrIsReplaced() {
+        String etag = SeasonEtags.of(List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 0L)));
+
+        assertEquals(etag, SeasonEtags.of(List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 0L))));
+        assertNotEquals(etag, SeasonEtags.of(List.of(seasonDto(seasonId, 1L), seasonDto(otherId, 1L))));
+        assertNotEquals(etag, SeasonEtags.of(List.of(seasonDto(seasonId, 1L))));
+        assertNotEquals(etag, SeasonEtags.of(List.of(seasonDto(otherId, 0L), seasonDto(seasonId, 1L))));
+        // same count, version sum and highest id: a season replaced by one with another lower id
+        UUID replacementId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        assertNotEquals(etag, SeasonEtags.of(List.of(seasonDto(replacementId, 1L), seasonDto(otherId, 0L))));
+    }
+
+    @Test
+    void etagMatches_ShouldAcceptWeakListAndWildcard() {
+        String etag = SeasonEtags.of(List.of(seasonDto(seasonId, 1L)));
+
+        assertTrue(SeasonEtags.matches("\"other\", W/" + etag, etag));
+        assertTrue(SeasonEtags.matches("*", etag));
+        assertFalse(SeasonEtags.matches("\"other\"", etag));
+    }
+
+    @Test
+    void exportSeasons_ShouldWriteOneSeasonPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<SeasonDto> consumer = invocation.getArgument(0);
+            consumer.accept(seasonDto(seasonId, 1L));
+            consumer.accept(seasonDto(otherId, 1L));
+            return null;
+        }).when(seasonServiceMock).exportAllSeasons(any());
+
+        String body = mockMvc.perform(get("/pods/seasons/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertEquals(seasonId, new ObjectMapper().readValue(lines[0], SeasonDto.class).getId());
+        assertEquals(otherId, new ObjectMapper().readValue(lines[1], SeasonDto.class).getId());
+    }
+
+    @Test
+    void importSeasons_ShouldPassEverySeasonOfTheStream() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String body = objectMapper.writeValueAsString(seasonDto(seasonId, null)) + "\n\n"
+                + objectMapper.writeValueAsString(seasonDto(UUID.randomUUID(), null)) + "\n";
+        when(seasonImporterMock.importSeasons(any(), eq(false))).thenAnswer(invocation -> {
+            Iterator<SeasonDto> seasonDtos = invocation.getArgument(0);
+            SeasonImportResultDto result = new SeasonImportResultDto();
+            while (seasonDtos.hasNext()) {
+                seasonDtos.next();
+                result.setImported(result.getImported() + 1);
+            }
+            return result;
+        });
+
+        mockMvc.perform(post("/pods/seasons/import").param("linkEpisodes", "false")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
+
+    private SeasonVersion seasonVersion(UUID id, Long version) {
+        return new SeasonVersion() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+
+    private SeasonDto seasonDto(UUID id, Long version) {
+        SeasonDto seasonDto = new SeasonDto();
+        seasonDto.setId(id);
+        seasonDto.setName("Season");
+        seasonDto.setPodcastId(podcastId);
+        seasonDto.setVersion(version);
+        return seasonDto;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.edufypodseasonservice.converters;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthConverterTest {
+
+    private JwtAuthConverter jwtAuthConverter;
+    private final UserInfo userInfo = new UserInfo();
+
+    @BeforeEach
+    void setUp() {
+        jwtAuthConverter = new JwtAuthConverter();
+        ReflectionTestUtils.setField(jwtAuthConverter, "resourceIdName", "edufy-client");
+        ReflectionTestUtils.setField(jwtAuthConverter, "principalAttribute", "preferred_username");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void convert_ShouldResolveRoleAndUserIdOnce() {
+        AbstractAuthenticationToken authentication = jwtAuthConverter.convert(jwt(Map.of("roles", List.of("edufy_Admin"))));
+
+        EdufyAuthenticationToken token = assertInstanceOf(EdufyAuthenticationToken.class, authentication);
+        assertEquals("edufy_Admin", token.getRole());
+        assertEquals("user-1", token.getUserId());
+        assertEquals("alice", token.getName());
+        assertTrue(token.isAuthenticated());
+    }
+
+    @Test
+    void convert_ShouldResolveSameRoleAsAuthorities_WhenTokenHasScopesAndRoles() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user-1")
+                .claim("scope", "openid profile email")
+                .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_User", "edufy_Admin"))))
+                .build();
+
+        AbstractAuthenticationToken authentication = jwtAuthConverter.convert(jwt);
+        JwtAuthenticationToken plain = new JwtAuthenticationToken(jwt, authentication.getAuthorities());
+
+        assertEquals(UserInfo.roleOf(plain), UserInfo.roleOf(authentication));
+    }
+
+    @Test
+    void convert_ShouldGiveNoRole_WhenTokenHasNoRoles() {
+        AbstractAuthenticationToken authentication = jwtAuthConverter.convert(jwt(Map.of()));
+
+        assertEquals("NO_ROLE", ((EdufyAuthenticationToken) authentication).getRole());
+    }
+
+    @Test
+    void userInfo_ShouldReadRoleAndUserIdFromToken() {
+        SecurityContextHolder.getContext().setAuthentication(
+                jwtAuthConverter.convert(jwt(Map.of("roles", List.of("edufy_User")))));
+
+        assertEquals("edufy_User", userInfo.getRole());
+        assertEquals("user-1", userInfo.getUserId());
+    }
+
+    @Test
+    void userInfo_ShouldGiveSystem_WhenNoCaller() {
+        assertEquals("SYSTEM", userInfo.getRole());
+    }
+
+    private static Jwt jwt(Map<String, Object> resource) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user-1")
+                .claim("preferred_username", "alice")
+                .claim("resource_access", Map.of("edufy-client", resource))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300))
+                .build();
+    }
+}
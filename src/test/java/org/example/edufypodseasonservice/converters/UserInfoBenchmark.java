@@ -0,0 +1,114 @@
+package org.example.edufypodseasonservice.converters;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the caller's role per request: the authentication is built once and the role is then read once per
+// log line and podcast service call (a season update reads it about 4 times, an episode add 3 times plus
+// once per remote call). "authorities" is the old lookup that streams the authorities on every read,
+// "token" reads the role JwtAuthConverter put on EdufyAuthenticationToken. gc.alloc.rate.norm is the
+// number to compare next to the throughput.
+// Run with: mvn test -Pbenchmark -Dtest=UserInfoBenchmark
+// Results on one CPU (throughput varies by about 40% between runs here, the allocations don't):
+//   lookups  authorities               | token
+//         1  7.2 M ops/s, 256 B/op     | 5.3 M ops/s, 264 B/op
+//         4  3.6 M ops/s, 424 B/op     | 4.1 M ops/s, 264 B/op
+//        10  2.3 M ops/s, 760 B/op     | 3.0 M ops/s, 264 B/op
+// Each authorities lookup allocates 56 bytes for the stream, Optional and replaced string. The token
+// costs 8 bytes once for the two extra fields and nothing per lookup.
+@Tag("benchmark")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserInfoBenchmark {
+
+    @State(Scope.Thread)
+    public static class Request {
+
+        @Param({"authorities", "token"})
+        String lookup;
+
+        @Param({"1", "4", "10"})
+        int lookups;
+
+        final UserInfo userInfo = new UserInfo();
+        Jwt jwt;
+        Collection<GrantedAuthority> authorities;
+        String name;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            JwtAuthConverter jwtAuthConverter = new JwtAuthConverter();
+            ReflectionTestUtils.setField(jwtAuthConverter, "resourceIdName", "edufy-client");
+            ReflectionTestUtils.setField(jwtAuthConverter, "principalAttribute", "preferred_username");
+            jwt = Jwt.withTokenValue("token")
+                    .header("alg", "RS256")
+                    .subject(UUID.randomUUID().toString())
+                    .claim("preferred_username", "benchmark-user")
+                    .claim("resource_access", Map.of("edufy-client", Map.of("roles", List.of("edufy_Admin"))))
+                    .issuedAt(Instant.now())
+                    .expiresAt(Instant.now().plusSeconds(300))
+                    .build();
+            AbstractAuthenticationToken authentication = jwtAuthConverter.convert(jwt);
+            authorities = authentication.getAuthorities();
+            name = authentication.getName();
+        }
+
+        // the token JwtAuthConverter ends with, the authority extraction before it is the same for both
+        AbstractAuthenticationToken authenticate() {
+            if (lookup.equals("authorities")) {
+                return new JwtAuthenticationToken(jwt, authorities, name);
+            }
+            return new EdufyAuthenticationToken(jwt, authorities, name);
+        }
+    }
+
+    @Benchmark
+    public void request(Request state, Blackhole blackhole) {
+        SecurityContextHolder.getContext().setAuthentication(state.authenticate());
+        for (int i = 0; i < state.lookups; i++) {
+            blackhole.consume(state.userInfo.getRole());
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserInfoBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
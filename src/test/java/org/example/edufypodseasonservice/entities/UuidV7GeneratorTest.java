@@ -0,0 +1,70 @@
+package org.example.edufypodseasonservice.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private final Instant now = Instant.parse("2026-03-01T12:00:00.123Z");
+
+    @Test
+    void generate_ShouldSetVersionVariantAndTimestamp() {
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(now, ZoneOffset.UTC));
+
+        UUID id = generator.generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void generate_ShouldSortInCreationOrder_WithinTheSameMillisecond() {
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(now, ZoneOffset.UTC));
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+        }
+    }
+
+    @Test
+    void generate_ShouldKeepIncreasing_WhenClockGoesBack() {
+        Instant[] time = {now};
+        UuidV7Generator generator = new UuidV7Generator(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return time[0];
+            }
+        });
+        UUID before = generator.generate();
+
+        time[0] = now.minusSeconds(1);
+        UUID after = generator.generate();
+
+        assertTrue(before.toString().compareTo(after.toString()) < 0);
+    }
+}
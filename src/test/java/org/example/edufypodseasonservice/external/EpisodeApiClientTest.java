@@ -0,0 +1,259 @@
+package org.example.edufypodseasonservice.external;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.edufypodseasonservice.converters.UserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+
+@ExtendWith(MockitoExtension.class)
+class EpisodeApiClientTest {
+
+    @Mock
+    private UserInfo userInfoMock;
+
+    private EpisodeServiceStub stub;
+    private EpisodeApiClient episodeApiClient;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final UUID seasonId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final List<UUID> episodeIds = List.of(
+            UUID.fromString("00000000-0000-0000-0000-000000000003"),
+            UUID.fromString("00000000-0000-0000-0000-000000000004"),
+            UUID.fromString("00000000-0000-0000-0000-000000000005"));
+
+
+    @BeforeEach
+    void setUp() throws IOException {
+        lenient().when(userInfoMock.getRole()).thenReturn("edufy_Admin");
+        stub = new EpisodeServiceStub();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        episodeApiClient = new EpisodeApiClient(RestClient.builder(), userInfoMock, new EpisodeCallFanOut(1),
+                circuitBreakerRegistry, bulkheadRegistry, new EpisodeHttpTransport("jdk", true, Duration.ofSeconds(2),
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(30), 10, Duration.ofSeconds(30), false),
+                new EpisodeExistsCache(Duration.ofMinutes(10), Duration.ofSeconds(30), 100, meterRegistry, nanos::get),
+                meterRegistry);
+        String base = stub.baseUrl();
+        ReflectionTestUtils.setField(episodeApiClient, "episodeExistsApiUrl", base + "{id}/exists");
+        ReflectionTestUtils.setField(episodeApiClient, "episodeAddApiUrl", base + "addseasontoepisode/{episodeId}/{seasonId}");
+        ReflectionTestUtils.setField(episodeApiClient, "episodeRemoveApiUrl", base + "removeseasonfromepisode/{episodeId}/{seasonId}");
+        ReflectionTestUtils.setField(episodeApiClient, "episodeBatchExistsApiUrl", base + "exists");
+        ReflectionTestUtils.setField(episodeApiClient, "episodeBatchAddApiUrl", base + "addseasontoepisodes/{seasonId}");
+        ReflectionTestUtils.setField(episodeApiClient, "episodeBatchRemoveApiUrl", base + "removeseasonfromepisodes/{seasonId}");
+        ReflectionTestUtils.setField(episodeApiClient, "batchReprobeInterval", Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void addSeasonToEpisodes_ShouldUseOneRequest_WhenBatchSupported() {
+        episodeApiClient.addSeasonToEpisodes(episodeIds, seasonId);
+
+        assertEquals(1, stub.batchRequests());
+        assertEquals(0, stub.singleRequests());
+        episodeIds.forEach(episodeId -> assertTrue(stub.isLinked(episodeId, seasonId)));
+    }
+
+    @Test
+    void removeSeasonFromEpisodes_ShouldUseOneRequest_WhenBatchSupported() {
+        episodeApiClient.addSeasonToEpisodes(episodeIds, seasonId);
+
+        episodeApiClient.removeSeasonFromEpisodes(episodeIds, seasonId);
+
+        assertEquals(2, stub.batchRequests());
+        episodeIds.forEach(episodeId -> assertFalse(stub.isLinked(episodeId, seasonId)));
+    }
+
+    @Test
+    void episodesExist_ShouldReturnResultPerEpisode() {
+        stub.addMissingEpisode(episodeIds.get(1));
+
+        Map<UUID, Boolean> result = episodeApiClient.episodesExist(episodeIds);
+
+        assertEquals(Map.of(episodeIds.get(0), true, episodeIds.get(1), false, episodeIds.get(2), true), result);
+        assertEquals(1, stub.batchRequests());
+    }
+
+    @Test
+    void addSeasonToEpisodes_ShouldFallBackToSingleCalls_WhenBatchUnsupported() {
+        stub.setBatchSupported(false);
+
+        episodeApiClient.addSeasonToEpisodes(episodeIds, seasonId);
+        episodeApiClient.removeSeasonFromEpisodes(episodeIds.subList(0, 1), seasonId);
+
+        assertEquals(4, stub.singleRequests());
+        assertEquals(0, stub.batchRequests());
+        assertFalse(stub.isLinked(episodeIds.get(0), seasonId));
+        assertTrue(stub.isLinked(episodeIds.get(1), seasonId));
+        assertTrue(stub.isLinked(episodeIds.get(2), seasonId));
+    }
+
+    @Test
+    void episodesExist_ShouldFallBackToSingleCalls_WhenBatchUnsupported() {
+        stub.setBatchSupported(false);
+        stub.addMissingEpisode(episodeIds.get(2));
+
+        Map<UUID, Boolean> result = episodeApiClient.episodesExist(episodeIds);
+
+        assertEquals(Map.of(episodeIds.get(0), true, episodeIds.get(1), true, episodeIds.get(2), false), result);
+        assertEquals(3, stub.singleRequests());
+    }
+
+    @Test
+    void episodeExists_ShouldFailFast_WhenCircuitIsOpen() {
+        stub.setFailing(true);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> episodeApiClient.episodeExists(episodeIds.get(0)));
+        }
+        int requestsWhenOpened = stub.singleRequests();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> episodeApiClient.episodeExists(episodeIds.get(0)));
+
+        assertTrue(ex.getMessage().startsWith("Episode service unavailable"));
+        assertEquals(CircuitBreaker.State.OPEN,
+                circuitBreakerRegistry.circuitBreaker(EpisodeApiClient.EPISODE_SERVICE).getState());
+        assertEquals(requestsWhenOpened, stub.singleRequests());
+    }
+
+    @Test
+    void addSeasonToEpisodes_ShouldTimeCallsPerOperationAndOutcome() {
+        stub.setBatchSupported(false);
+
+        episodeApiClient.addSeasonToEpisodes(episodeIds, seasonId);
+
+        assertEquals(1, requestTimer("addSeasonToEpisodes", "CLIENT_ERROR").count());
+        assertEquals(3, requestTimer("addSeasonToEpisode", "SUCCESS").count());
+        assertTrue(requestTimer("addSeasonToEpisode", "SUCCESS").totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void episodeExists_ShouldTimeFailedAndRejectedCalls() {
+        stub.setFailing(true);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalStateException.class, () -> episodeApiClient.episodeExists(episodeIds.get(0)));
+        }
+
+        assertEquals(4, requestTimer("episodeExists", "SERVER_ERROR").count());
+        assertEquals(1, requestTimer("episodeExists", "REJECTED").count());
+    }
+
+    @Test
+    void episodeExists_ShouldRejectCall_WhenBulkheadIsFull() {
+        stub.setLatencyMillis(500);
+        CompletableFuture<Boolean> slowCall = CompletableFuture.supplyAsync(() -> episodeApiClient.episodeExists(episodeIds.get(0)));
+        while (stub.receivedRequests() == 0 && !slowCall.isDone()) {
+            Thread.onSpinWait();
+        }
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> episodeApiClient.episodeExists(episodeIds.get(1)));
+
+        assertTrue(ex.getMessage().startsWith("Episode service unavailable"));
+        assertTrue(slowCall.join());
+    }
+
+    @Test
+    void episodeExists_ShouldCallServiceOnce_WhenAskedRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(episodeApiClient.episodeExists(episodeIds.get(0)));
+        }
+
+        assertEquals(1, stub.singleRequests());
+        assertEquals(2.0 / 3, meterRegistry.get("episode.exists.cache.hit.ratio").gauge().value(), 0.001);
+    }
+
+    @Test
+    void episodeExists_ShouldAskAgain_WhenNegativeEntryExpired() {
+        stub.addMissingEpisode(episodeIds.get(0));
+        assertFalse(episodeApiClient.episodeExists(episodeIds.get(0)));
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertFalse(episodeApiClient.episodeExists(episodeIds.get(0)));
+        assertEquals(1, stub.singleRequests());
+
+        nanos.addAndGet(Duration.ofSeconds(25).toNanos());
+        assertFalse(episodeApiClient.episodeExists(episodeIds.get(0)));
+
+        assertEquals(2, stub.singleRequests());
+    }
+
+    @Test
+    void episodeExists_ShouldShareOneCall_WhenLookedUpConcurrently() {
+        stub.setLatencyMillis(200);
+
+        List<CompletableFuture<Boolean>> lookups = IntStream.range(0, 5)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> episodeApiClient.episodeExists(episodeIds.get(0))))
+                .toList();
+
+        lookups.forEach(lookup -> assertTrue(lookup.join()));
+        assertEquals(1, stub.singleRequests());
+    }
+
+    @Test
+    void episodesExist_ShouldOnlyAskForUncachedEpisodes() {
+        episodeApiClient.episodeExists(episodeIds.get(0));
+
+        Map<UUID, Boolean> first = episodeApiClient.episodesExist(episodeIds);
+        Map<UUID, Boolean> second = episodeApiClient.episodesExist(episodeIds);
+
+        assertEquals(first, second);
+        assertEquals(3, first.size());
+        assertEquals(1, stub.singleRequests());
+        assertEquals(1, stub.batchRequests());
+    }
+
+    @Test
+    void removeSeasonFromEpisodes_ShouldEvictCachedExistence() {
+        episodeApiClient.episodesExist(episodeIds);
+        episodeApiClient.removeSeasonFromEpisodes(episodeIds.subList(0, 1), seasonId);
+        episodeApiClient.removeSeasonFromEpisode(episodeIds.get(1), seasonId);
+
+        episodeApiClient.episodesExist(episodeIds);
+
+        assertEquals(5, stub.existsLookups());
+    }
+
+    private Timer requestTimer(String operation, String outcome) {
+        return meterRegistry.get("episode.client.requests").tag("operation", operation).tag("outcome", outcome).timer();
+    }
+}
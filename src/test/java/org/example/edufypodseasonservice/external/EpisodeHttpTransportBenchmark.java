@@ -0,0 +1,66 @@
+package org.example.edufypodseasonservice.external;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Exists-check throughput against the local stub, default request factory vs the configured transports.
+// Run with: mvn test -Pbenchmark -Dtest=EpisodeHttpTransportBenchmark
+@Tag("benchmark")
+class EpisodeHttpTransportBenchmark {
+
+    private static final int CALLS = 5_000;
+    private static final int CONCURRENCY = 32;
+    private static final long STUB_LATENCY_MILLIS = 2;
+
+    @Test
+    void compareTransports() throws Exception {
+        try (EpisodeServiceStub stub = new EpisodeServiceStub()) {
+            stub.setLatencyMillis(STUB_LATENCY_MILLIS);
+            String url = stub.baseUrl() + "{id}/exists";
+
+            // what RestClient.Builder picked before the transport was configurable
+            run("default", new JdkClientHttpRequestFactory(), url);
+            run("jdk", transport("jdk").existsRequestFactory(), url);
+            run("apache", transport("apache").existsRequestFactory(), url);
+        }
+    }
+
+    private EpisodeHttpTransport transport(String name) {
+        return new EpisodeHttpTransport(name, true, Duration.ofSeconds(2), Duration.ofSeconds(2),
+                Duration.ofSeconds(5), Duration.ofSeconds(30), CONCURRENCY, Duration.ofSeconds(30), false);
+    }
+
+    private void run(String name, ClientHttpRequestFactory requestFactory, String url) throws Exception {
+        RestClient restClient = RestClient.builder().requestFactory(requestFactory).build();
+        UUID episodeId = UUID.randomUUID();
+        calls(restClient, url, episodeId, CALLS / 10); // warm up
+
+        long start = System.nanoTime();
+        calls(restClient, url, episodeId, CALLS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-8s %6d calls in %6.2f s = %8.0f calls/s%n", name, CALLS, seconds, CALLS / seconds);
+    }
+
+    private void calls(RestClient restClient, String url, UUID episodeId, int count) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<Boolean>> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                results.add(executor.submit(() -> restClient.get().uri(url, episodeId).retrieve().body(Boolean.class)));
+            }
+            for (Future<Boolean> result : results) {
+                result.get();
+            }
+        }
+    }
+}
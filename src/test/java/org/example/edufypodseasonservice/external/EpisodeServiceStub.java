@@ -0,0 +1,166 @@
+package org.example.edufypodseasonservice.external;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local stand-in for the podcast service episode endpoints, single and batch.
+// With batchSupported=false the batch endpoints answer 404 like a podcast service that predates them.
+public class EpisodeServiceStub implements AutoCloseable {
+
+    private static final String BASE = "/pods/podcasts/episodes/";
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Set<String> links = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> missingEpisodes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger singleRequests = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final AtomicInteger receivedRequests = new AtomicInteger();
+    private final AtomicInteger existsLookups = new AtomicInteger();
+    private volatile boolean batchSupported = true;
+    private volatile boolean failing;
+    private volatile long latencyMillis;
+
+    public EpisodeServiceStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(BASE, this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE;
+    }
+
+    public void setBatchSupported(boolean batchSupported) {
+        this.batchSupported = batchSupported;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void addMissingEpisode(UUID episodeId) {
+        missingEpisodes.add(episodeId);
+    }
+
+    public boolean isLinked(UUID episodeId, UUID seasonId) {
+        return links.contains(episodeId + ":" + seasonId);
+    }
+
+    public int singleRequests() {
+        return singleRequests.get();
+    }
+
+    public int batchRequests() {
+        return batchRequests.get();
+    }
+
+    public int receivedRequests() {
+        return receivedRequests.get();
+    }
+
+    // number of episode ids asked about, single or batched
+    public int existsLookups() {
+        return existsLookups.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            receivedRequests.incrementAndGet();
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (failing) {
+                singleRequests.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            String[] path = exchange.getRequestURI().getPath().substring(BASE.length()).split("/");
+            switch (path[0]) {
+                case "exists" -> {
+                    if (!batchSupported) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    batchRequests.incrementAndGet();
+                    Map<UUID, Boolean> result = new LinkedHashMap<>();
+                    for (UUID episodeId : readIds(exchange)) {
+                        existsLookups.incrementAndGet();
+                        result.put(episodeId, !missingEpisodes.contains(episodeId));
+                    }
+                    writeJson(exchange, result);
+                }
+                case "addseasontoepisodes", "removeseasonfromepisodes" -> {
+                    if (!batchSupported) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    batchRequests.incrementAndGet();
+                    UUID seasonId = UUID.fromString(path[1]);
+                    for (UUID episodeId : readIds(exchange)) {
+                        link(path[0].startsWith("add"), episodeId, seasonId);
+                    }
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "addseasontoepisode", "removeseasonfromepisode" -> {
+                    singleRequests.incrementAndGet();
+                    link(path[0].startsWith("add"), UUID.fromString(path[1]), UUID.fromString(path[2]));
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                default -> {
+                    singleRequests.incrementAndGet();
+                    existsLookups.incrementAndGet();
+                    writeJson(exchange, !missingEpisodes.contains(UUID.fromString(path[0])));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void link(boolean add, UUID episodeId, UUID seasonId) {
+        if (add) {
+            links.add(episodeId + ":" + seasonId);
+        } else {
+            links.remove(episodeId + ":" + seasonId);
+        }
+    }
+
+    private List<UUID> readIds(HttpExchange exchange) throws IOException {
+        return objectMapper.readValue(exchange.getRequestBody(), new TypeReference<>() {});
+    }
+
+    private void writeJson(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
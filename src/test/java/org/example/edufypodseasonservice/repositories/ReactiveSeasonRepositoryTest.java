@@ -0,0 +1,135 @@
+package org.example.edufypodseasonservice.repositories;
+
+import org.example.edufypodseasonservice.entities.Season;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Reads the rows JPA wrote through R2DBC on the same in-memory H2 and compares them with what
+// SeasonRepository returns for the same query
+@DataJpaTest(properties = {"spring.datasource.url=jdbc:h2:mem:reactive-seasons;DB_CLOSE_DELAY=-1",
+        "season.uuid-storage=binary"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactiveSeasonRepositoryTest {
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ReactiveSeasonRepository reactiveSeasonRepository;
+
+    private final UUID podcastId1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID podcastId2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @BeforeEach
+    void setUp() {
+        reactiveSeasonRepository = new ReactiveSeasonRepository(
+                "r2dbc:h2:mem:///reactive-seasons?options=DB_CLOSE_DELAY=-1", "sa", "", 2, "binary");
+
+        seasonRepository.saveAll(List.of(
+                season(podcastId1, 2, UUID.randomUUID()),
+                season(podcastId1, 1, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()),
+                season(podcastId2, 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // the rows go first, so a pool that fails to close can't leave them behind for the next test
+        try {
+            seasonRepository.deleteAll();
+        } finally {
+            reactiveSeasonRepository.destroy();
+        }
+    }
+
+    @Test
+    void findAllByOrderByPodcastIdAscSeasonNumberAsc_ShouldMatchJpa() {
+        List<Season> expected = seasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc();
+
+        List<Season> actual = reactiveSeasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc()
+                .collectList().block();
+
+        assertEquals(3, actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameColumns(expected.get(i), actual.get(i));
+            assertTrue(actual.get(i).getEpisodes().isEmpty());
+        }
+    }
+
+    @Test
+    void findByPodcastIdOrderBySeasonNumberAsc_ShouldMatchJpa_WithEpisodesInOrder() {
+        List<Season> expected = transactionTemplate.execute(status -> {
+            List<Season> seasons = seasonRepository.findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(podcastId1);
+            seasons.forEach(season -> season.setEpisodes(new LinkedHashSet<>(season.getEpisodes())));
+            return seasons;
+        });
+
+        List<Season> actual = reactiveSeasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId1)
+                .collectList().block();
+
+        assertEquals(2, actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameColumns(expected.get(i), actual.get(i));
+            assertEquals(new ArrayList<>(expected.get(i).getEpisodes()), new ArrayList<>(actual.get(i).getEpisodes()));
+        }
+    }
+
+    @Test
+    void findByPodcastIdOrderBySeasonNumberAsc_ShouldKeepSeasonsWithoutEpisodes() {
+        List<Season> actual = reactiveSeasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId2)
+                .collectList().block();
+
+        assertEquals(1, actual.size());
+        assertTrue(actual.get(0).getEpisodes().isEmpty());
+    }
+
+    @Test
+    void findFirstByPodcastIdOrderBySeasonNumberDesc_ShouldReturnLatestSeason() {
+        Season expected = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(podcastId1).orElseThrow();
+
+        Season actual = reactiveSeasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(podcastId1).block();
+
+        assertSameColumns(expected, actual);
+        assertEquals(1, actual.getEpisodes().size());
+        assertNull(reactiveSeasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(UUID.randomUUID()).block());
+    }
+
+    private void assertSameColumns(Season expected, Season actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getSeasonNumber(), actual.getSeasonNumber());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getPodcastId(), actual.getPodcastId());
+        assertEquals(expected.getThumbnailUrl(), actual.getThumbnailUrl());
+        assertEquals(expected.getImageUrl(), actual.getImageUrl());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+
+    private Season season(UUID podcastId, int seasonNumber, UUID... episodeIds) {
+        Season season = new Season();
+        season.setName("Season " + seasonNumber);
+        season.setSeasonNumber(seasonNumber);
+        season.setPodcastId(podcastId);
+        season.setDescription("Description " + seasonNumber);
+        season.setThumbnailUrl("https://cdn.example.org/thumbnails/" + seasonNumber + ".jpg");
+        season.getEpisodes().addAll(List.of(episodeIds));
+        return season;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.edufypodseasonservice.repositories;
+
+import org.example.edufypodseasonservice.entities.UuidV7Generator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Bulk insert of seasons keyed by random version 4 ids vs time-ordered version 7 ids into a binary(16)
+// primary key, each batch committed separately like seasons created one request at a time. Random keys
+// touch pages all over the index, version 7 keys only append to the last one. H2 rewrites pages
+// append-only, so the table size here barely differs. On InnoDB the page splits show up as data_free and
+// a larger data_length in information_schema.tables for the same number of rows.
+// Run with: mvn test -Pbenchmark -Dtest=SeasonIdInsertBenchmark
+@Tag("benchmark")
+class SeasonIdInsertBenchmark {
+
+    private static final int SEASONS = 300_000;
+    private static final int BATCH_SIZE = 100;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void compareIdVersions() throws SQLException {
+        UuidV7Generator uuidV7Generator = new UuidV7Generator();
+        run("v4", UUID::randomUUID);
+        run("v7", uuidV7Generator::generate);
+    }
+
+    private void run(String name, Supplier<UUID> ids) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:file:" + dataDir.resolve(name) + ";MODE=MySQL", "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table season (season_number integer not null, podcast_id binary(16) not null, "
+                        + "season_id binary(16) not null, name varchar(50) not null, description varchar(500), "
+                        + "primary key (season_id))");
+            }
+            connection.setAutoCommit(false);
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into season (season_number, podcast_id, season_id, name, description) values (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < SEASONS; i++) {
+                    insert.setInt(1, i % 20 + 1);
+                    insert.setBytes(2, bytes(UUID.randomUUID()));
+                    insert.setBytes(3, bytes(ids.get()));
+                    insert.setString(4, "Season " + i);
+                    insert.setString(5, "A season of a podcast with a description of realistic length.");
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select disk_space_used('SEASON')")) {
+                resultSet.next();
+                System.out.printf("%-3s %7d rows in %6.2f s = %8.0f rows/s, table %7d KiB%n",
+                        name, SEASONS, seconds, SEASONS / seconds, resultSet.getLong(1) / 1024);
+            }
+        }
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+}
@@ -1,18 +1,29 @@
 package org.example.edufypodseasonservice.repositories;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 import org.example.edufypodseasonservice.entities.Season;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -20,9 +31,14 @@ class SeasonRepositoryTest {
 
     @Autowired
     private SeasonRepository seasonRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private final UUID podcastId1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
     private final UUID podcastId2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final UUID podcastId3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
 
     @BeforeEach
     @Transactional
@@ -34,11 +50,14 @@ class SeasonRepositoryTest {
         season1.setName("Season 1");
         season1.setSeasonNumber(1);
         season1.setPodcastId(podcastId1);
+        season1.getEpisodes().add(UUID.randomUUID());
+        season1.getEpisodes().add(UUID.randomUUID());
 
         Season season2 = new Season();
         season2.setName("Season 2");
         season2.setSeasonNumber(2);
         season2.setPodcastId(podcastId1);
+        season2.getEpisodes().add(UUID.randomUUID());
 
         Season season3 = new Season();
         season3.setName("Season 1 Podcast 2");
@@ -50,12 +69,18 @@ class SeasonRepositoryTest {
 
 
     @Test
-    void testExistsByPodcastIdAndSeasonNumber() {
-        boolean exists = seasonRepository.existsByPodcastIdAndSeasonNumber(podcastId1, 1);
-        boolean notExists = seasonRepository.existsByPodcastIdAndSeasonNumber(podcastId1, 99);
+    void testSaveAndFlush_RejectsDuplicateSeasonNumber() {
+        Season duplicate = new Season();
+        duplicate.setName("Duplicate");
+        duplicate.setSeasonNumber(1);
+        duplicate.setPodcastId(podcastId1);
+
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> seasonRepository.saveAndFlush(duplicate));
 
-        assertThat(exists).isTrue();
-        assertThat(notExists).isFalse();
+        assertThat(ex.getCause()).isInstanceOf(ConstraintViolationException.class);
+        assertThat(((ConstraintViolationException) ex.getCause()).getConstraintName().toLowerCase())
+                .contains(Season.PODCAST_SEASON_NUMBER_CONSTRAINT);
     }
 
     @Test
@@ -70,6 +95,19 @@ class SeasonRepositoryTest {
 
     }
 
+    @Test
+    void testKeysetPagesFollowCatalogOrder() {
+        List<Season> firstPage = seasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc(Limit.of(2));
+        Season last = firstPage.get(1);
+        List<Season> nextPage = seasonRepository.findSeasonsAfter(last.getPodcastId(), last.getSeasonNumber(), Limit.of(2));
+
+        assertThat(firstPage.size()).isEqualTo(2);
+        assertThat(firstPage.get(0).getSeasonNumber()).isEqualTo(1);
+        assertThat(firstPage.get(1).getSeasonNumber()).isEqualTo(2);
+        assertThat(nextPage.size()).isEqualTo(1);
+        assertThat(nextPage.get(0).getPodcastId()).isEqualTo(podcastId2);
+    }
+
     @Test
     void testFindByPodcastIdOrderBySeasonNumberAsc() {
         List<Season> seasons = seasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId1);
@@ -94,5 +132,258 @@ class SeasonRepositoryTest {
         assertThat(latestSeason).isPresent();
         assertThat(latestSeason.get().getSeasonNumber()).isEqualTo(2);
     }
-}
 
+    @Test
+    void testFindByPodcastIdOrderBySeasonNumberAsc_LeavesEpisodesUnloaded() {
+        clearAndGetStatistics();
+
+        List<Season> seasons = seasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId1);
+
+        assertThat(seasons.size()).isEqualTo(2);
+        assertThat(seasons.stream().noneMatch(season -> Hibernate.isInitialized(season.getEpisodes()))).isTrue();
+    }
+
+    @Test
+    void testFindWithEpisodesByPodcastIdOrderBySeasonNumberAsc_LoadsEpisodesInOneQuery() {
+        Statistics statistics = clearAndGetStatistics();
+
+        List<Season> seasons = seasonRepository.findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(podcastId1);
+        int episodeCount = seasons.stream().mapToInt(season -> season.getEpisodes().size()).sum();
+
+        assertThat(episodeCount).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindById_LoadsEpisodesInOneQuery() {
+        UUID seasonId = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberAsc(podcastId1).get().getId();
+        Statistics statistics = clearAndGetStatistics();
+
+        Optional<Season> season = seasonRepository.findById(seasonId);
+
+        assertThat(season).isPresent();
+        assertThat(season.get().getEpisodes().size()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindByEpisodeId() {
+        Season season = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberDesc(podcastId1).get();
+        UUID episodeId = season.getEpisodes().iterator().next();
+
+        List<Season> seasons = seasonRepository.findByEpisodeId(episodeId);
+
+        assertThat(seasons.size()).isEqualTo(1);
+        assertThat(seasons.get(0).getId()).isEqualTo(season.getId());
+        assertThat(seasonRepository.findByEpisodeId(UUID.randomUUID()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void testFindByEpisodeIdIn_ReturnsSeasonPerEpisode() {
+        List<Season> seasons = seasonRepository.findByPodcastIdOrderBySeasonNumberAsc(podcastId1);
+        List<UUID> episodeIds = seasons.stream().flatMap(season -> season.getEpisodes().stream()).toList();
+
+        List<EpisodeSeason> episodeSeasons = seasonRepository.findByEpisodeIdIn(episodeIds);
+
+        assertThat(episodeSeasons.size()).isEqualTo(3);
+        for (EpisodeSeason episodeSeason : episodeSeasons) {
+            assertThat(episodeSeason.getSeason().getEpisodes().contains(episodeSeason.getEpisodeId())).isTrue();
+        }
+    }
+
+    @Test
+    void testVersion_IncreasesWhenEpisodesChange() {
+        Season season = loadSeasonWithEpisodes(1);
+        Long version = season.getVersion();
+
+        season.getEpisodes().add(UUID.randomUUID());
+        entityManager.flush();
+
+        assertThat(season.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void testFindVersionsByPodcastId_ReturnsRowsInListOrder() {
+        UUID lowId = UUID.fromString("00000000-0000-4000-8000-000000000001");
+        UUID highId = UUID.fromString("f0000000-0000-4000-8000-000000000001");
+        for (UUID seasonId : List.of(highId, lowId)) {
+            Season season = new Season();
+            season.setId(seasonId);
+            season.setName("Imported");
+            season.setSeasonNumber(seasonId == highId ? 2 : 1);
+            season.setPodcastId(podcastId3);
+            seasonRepository.save(season);
+        }
+        Season edited = loadSeasonWithEpisodes(1);
+        edited.getEpisodes().add(UUID.randomUUID());
+        entityManager.flush();
+
+        List<SeasonVersion> versions = seasonRepository.findVersionsByPodcastId(podcastId3);
+        List<SeasonVersion> editedVersions = seasonRepository.findVersionsByPodcastId(edited.getPodcastId());
+
+        assertThat(versions.stream().map(SeasonVersion::getId).toList()).isEqualTo(List.of(lowId, highId));
+        assertThat(versions.get(0).getVersion()).isEqualTo(0L);
+        assertThat(editedVersions.size()).isEqualTo(1);
+        assertThat(editedVersions.get(0).getVersion()).isEqualTo(edited.getVersion());
+        assertThat(seasonRepository.findVersions().stream().map(SeasonVersion::getId).toList()).isEqualTo(
+                seasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc().stream().map(Season::getId).toList());
+    }
+
+    @Test
+    void testFindVersions_ForEpisodeAndPage() {
+        Season season = loadSeasonWithEpisodes(2);
+        UUID episodeId = season.getEpisodes().iterator().next();
+
+        List<SeasonVersion> episodeVersions = seasonRepository.findVersionsByEpisodeId(episodeId);
+        List<SeasonVersion> firstPage = seasonRepository.findPageVersions(Limit.of(2));
+        List<SeasonVersion> nextPage = seasonRepository.findPageVersionsAfter(podcastId1, 2, Limit.of(2));
+
+        assertThat(episodeVersions.size()).isEqualTo(1);
+        assertThat(episodeVersions.get(0).getId()).isEqualTo(season.getId());
+        assertThat(firstPage.size()).isEqualTo(2);
+        assertThat(firstPage.get(0).getId()).isEqualTo(
+                seasonRepository.findFirstByPodcastIdOrderBySeasonNumberAsc(podcastId1).orElseThrow().getId());
+        assertThat(nextPage.size()).isEqualTo(1);
+        assertThat(nextPage.get(0).getId()).isEqualTo(season.getId());
+        assertThat(nextPage.get(0).getVersion()).isEqualTo(season.getVersion());
+        assertThat(seasonRepository.findVersionsByPodcastId(UUID.randomUUID()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void testSave_GeneratesTimeOrderedIds() {
+        List<Season> seasons = seasonRepository.findAllByOrderByPodcastIdAscSeasonNumberAsc();
+
+        assertThat(seasons.get(0).getId().version()).isEqualTo(7);
+        assertThat(seasons.get(2).getId().version()).isEqualTo(7);
+    }
+
+    @Test
+    void testAddingOneEpisode_InsertsOnlyThatRow() {
+        Season season = loadSeasonWithEpisodes(50);
+        Statistics statistics = resetStatistics();
+
+        season.getEpisodes().add(UUID.randomUUID());
+        entityManager.flush();
+
+        // the changed row plus the version bump of the season
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionRecreateCount()).isEqualTo(0);
+        assertThat(statistics.getCollectionRemoveCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testRemovingOneEpisode_DeletesOnlyThatRow() {
+        Season season = loadSeasonWithEpisodes(50);
+        UUID removed = season.getEpisodes().iterator().next();
+        Statistics statistics = resetStatistics();
+
+        season.getEpisodes().remove(removed);
+        entityManager.flush();
+
+        // the changed row plus the version bump of the season
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionRecreateCount()).isEqualTo(0);
+        assertThat(statistics.getCollectionRemoveCount()).isEqualTo(0);
+    }
+
+    @Test
+    void testSaveAll_InsertsNewSeasonsInJdbcBatches() {
+        UUID podcastId = UUID.randomUUID();
+        List<Season> seasons = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            Season season = new Season();
+            season.setName("Season " + i);
+            season.setSeasonNumber(i);
+            season.setPodcastId(podcastId);
+            seasons.add(season);
+        }
+        Statistics statistics = clearAndGetStatistics();
+
+        seasonRepository.saveAll(seasons);
+        entityManager.flush();
+
+        // one insert statement executed in batches of 50 instead of one per row, and no select for the ids
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindSeasonNumbersByPodcastIdIn() {
+        List<PodcastSeasonNumber> seasonNumbers = seasonRepository.findSeasonNumbersByPodcastIdIn(
+                List.of(podcastId1, UUID.randomUUID()));
+
+        assertThat(seasonNumbers.size()).isEqualTo(2);
+        assertThat(seasonNumbers.stream().map(PodcastSeasonNumber::getSeasonNumber).sorted().toList())
+                .isEqualTo(List.of(1, 2));
+        assertThat(seasonNumbers.get(0).getPodcastId()).isEqualTo(podcastId1);
+    }
+
+    @Test
+    void testSave_KeepsAssignedId() {
+        UUID seasonId = UUID.randomUUID();
+        Season season = new Season();
+        season.setId(seasonId);
+        season.setName("Imported");
+        season.setSeasonNumber(3);
+        season.setPodcastId(podcastId2);
+
+        Season saved = seasonRepository.save(season);
+        clearAndGetStatistics();
+
+        assertThat(saved.getId()).isEqualTo(seasonId);
+        assertThat(seasonRepository.findById(seasonId)).isPresent();
+        assertThat(seasonRepository.findExistingIds(List.of(seasonId, UUID.randomUUID()))).isEqualTo(List.of(seasonId));
+    }
+
+    @Test
+    void testStreamAllWithEpisodes_ReturnsEachSeasonOnceWithItsEpisodes() {
+        Statistics statistics = clearAndGetStatistics();
+
+        List<Season> seasons;
+        try (Stream<Season> stream = seasonRepository.streamAllWithEpisodes()) {
+            seasons = stream.toList();
+        }
+
+        assertThat(seasons.size()).isEqualTo(3);
+        assertThat(seasons.get(0).getEpisodes().size()).isEqualTo(2);
+        assertThat(seasons.get(1).getEpisodes().size()).isEqualTo(1);
+        assertThat(seasons.get(2).getEpisodes().isEmpty()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testUuidColumns_AreChar36_ByDefault() {
+        Object columnType = entityManager.createNativeQuery("select data_type || '(' || character_maximum_length || ')' "
+                + "from information_schema.columns where table_name = 'SEASON' and column_name = 'SEASON_ID'")
+                .getSingleResult();
+
+        // season.uuid-storage=char, the layout of a schema that hasn't been through db/uuid-binary-migration.sql
+        assertThat(columnType).isEqualTo("CHARACTER(36)");
+    }
+
+    private Season loadSeasonWithEpisodes(int episodeCount) {
+        Season season = seasonRepository.findFirstByPodcastIdOrderBySeasonNumberAsc(podcastId2).get();
+        for (int i = 0; i < episodeCount; i++) {
+            season.getEpisodes().add(UUID.randomUUID());
+        }
+        UUID seasonId = season.getId();
+        clearAndGetStatistics();
+        return seasonRepository.findById(seasonId).get();
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Statistics clearAndGetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
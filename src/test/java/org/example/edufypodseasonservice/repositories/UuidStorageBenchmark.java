@@ -0,0 +1,135 @@
+package org.example.edufypodseasonservice.repositories;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Storage size and lookup latency of the season tables with char(36) vs binary(16) UUID columns on a
+// generated dataset, using the DDL Hibernate creates for each season.uuid-storage.
+// Run with: mvn test -Pbenchmark -Dtest=UuidStorageBenchmark
+// Results on a file-backed H2 database in MySQL mode, 50k seasons with 10 episodes each:
+//   char(36)    season 4640 KiB  season_episode_ids 38385 KiB  by id 13.6 us  episodes 33.1 us
+//   binary(16)  season 2677 KiB  season_episode_ids 18778 KiB  by id  7.5 us  episodes 15.9 us
+// These are H2 numbers only, InnoDB pages and secondary indexes are laid out differently. The query at
+// the end of db/uuid-binary-migration.sql gives the MySQL sizes before and after the switch.
+@Tag("benchmark")
+class UuidStorageBenchmark {
+
+    private static final int SEASONS = 50_000;
+    private static final int EPISODES_PER_SEASON = 10;
+    private static final int LOOKUPS = 200_000;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void compareStorageModes() throws SQLException {
+        List<UUID> seasonIds = new ArrayList<>(SEASONS);
+        for (int i = 0; i < SEASONS; i++) {
+            seasonIds.add(UUID.randomUUID());
+        }
+        run("char(36)", seasonIds, true);
+        run("binary(16)", seasonIds, false);
+    }
+
+    private void run(String type, List<UUID> seasonIds, boolean asChar) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:file:" + dataDir.resolve(asChar ? "char" : "binary") + ";MODE=MySQL", "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table season (season_number integer not null, podcast_id " + type + " not null, "
+                        + "season_id " + type + " not null, name varchar(50) not null, primary key (season_id))");
+                statement.execute("create table season_episode_ids (episode_id " + type + " not null, season_id " + type
+                        + " not null, primary key (season_id, episode_id))");
+            }
+            load(connection, seasonIds, asChar);
+
+            long seasonBytes = diskSpace(connection, "SEASON");
+            long linkBytes = diskSpace(connection, "SEASON_EPISODE_IDS");
+            double byIdMicros = lookups(connection, "select name from season where season_id = ?", seasonIds, asChar);
+            double episodesMicros = lookups(connection,
+                    "select episode_id from season_episode_ids where season_id = ?", seasonIds, asChar);
+
+            System.out.printf("%-10s season %8d KiB  season_episode_ids %8d KiB  by id %6.2f us  episodes %6.2f us%n",
+                    type, seasonBytes / 1024, linkBytes / 1024, byIdMicros, episodesMicros);
+        }
+    }
+
+    private void load(Connection connection, List<UUID> seasonIds, boolean asChar) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement season = connection.prepareStatement(
+                "insert into season (season_number, podcast_id, season_id, name) values (?, ?, ?, ?)");
+             PreparedStatement link = connection.prepareStatement(
+                     "insert into season_episode_ids (episode_id, season_id) values (?, ?)")) {
+            for (int i = 0; i < seasonIds.size(); i++) {
+                season.setInt(1, i % 20 + 1);
+                season.setObject(2, value(UUID.randomUUID(), asChar));
+                season.setObject(3, value(seasonIds.get(i), asChar));
+                season.setString(4, "Season " + i);
+                season.addBatch();
+                for (int e = 0; e < EPISODES_PER_SEASON; e++) {
+                    link.setObject(1, value(UUID.randomUUID(), asChar));
+                    link.setObject(2, value(seasonIds.get(i), asChar));
+                    link.addBatch();
+                }
+                if (i % 1000 == 999) {
+                    season.executeBatch();
+                    link.executeBatch();
+                }
+            }
+            season.executeBatch();
+            link.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private double lookups(Connection connection, String sql, List<UUID> seasonIds, boolean asChar) throws SQLException {
+        Random random = new Random(42);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < LOOKUPS / 10; i++) { // warm up
+                query(statement, value(seasonIds.get(random.nextInt(seasonIds.size())), asChar));
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                query(statement, value(seasonIds.get(random.nextInt(seasonIds.size())), asChar));
+            }
+            return (System.nanoTime() - start) / 1_000.0 / LOOKUPS;
+        }
+    }
+
+    private void query(PreparedStatement statement, Object seasonId) throws SQLException {
+        statement.setObject(1, seasonId);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getObject(1);
+            }
+        }
+    }
+
+    private long diskSpace(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select disk_space_used('" + table + "')")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Object value(UUID uuid, boolean asChar) {
+        if (asChar) {
+            return uuid.toString();
+        }
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+}
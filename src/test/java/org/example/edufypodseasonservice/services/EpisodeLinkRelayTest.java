@@ -0,0 +1,210 @@
+package org.example.edufypodseasonservice.services;
+
+import org.example.edufypodseasonservice.entities.EpisodeLinkEvent;
+import org.example.edufypodseasonservice.external.EpisodeApiClient;
+import org.example.edufypodseasonservice.external.EpisodeSyncException;
+import org.example.edufypodseasonservice.repositories.EpisodeLinkEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class EpisodeLinkRelayTest {
+
+    @Mock
+    private EpisodeLinkEventRepository episodeLinkEventRepositoryMock;
+    @Mock
+    private EpisodeApiClient episodeApiClientMock;
+
+    private EpisodeLinkRelay episodeLinkRelay;
+
+    private final Instant now = Instant.parse("2025-01-01T12:00:00Z");
+    private final UUID seasonId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID episodeId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private final UUID episodeId2 = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+
+    @BeforeEach
+    void setUp() {
+        episodeLinkRelay = new EpisodeLinkRelay(episodeLinkEventRepositoryMock, episodeApiClientMock,
+                TransactionOperations.withoutTransaction(), Clock.fixed(now, ZoneOffset.UTC), 100, 5, Duration.ofMinutes(5));
+    }
+
+    private EpisodeLinkEvent event(long id, UUID episodeId, EpisodeLinkEvent.Action action) {
+        EpisodeLinkEvent event = new EpisodeLinkEvent(seasonId, episodeId, action, now);
+        event.setId(id);
+        return event;
+    }
+
+    @Test
+    void relay_ShouldSendOnlyLatestEventPerEpisodeAndDeleteAll() {
+        when(episodeLinkEventRepositoryMock.findDueForClaim(5, now, Limit.of(100)))
+                .thenReturn(List.of(
+                        event(1, episodeId, EpisodeLinkEvent.Action.LINK),
+                        event(2, episodeId2, EpisodeLinkEvent.Action.LINK),
+                        event(3, episodeId, EpisodeLinkEvent.Action.UNLINK)));
+
+        episodeLinkRelay.relay();
+
+        verify(episodeApiClientMock).addSeasonToEpisodes(List.of(episodeId2), seasonId);
+        verify(episodeApiClientMock).removeSeasonFromEpisodes(List.of(episodeId), seasonId);
+        verify(episodeLinkEventRepositoryMock).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(episodeLinkEventRepositoryMock).saveAll(List.of());
+    }
+
+    @Test
+    void relay_ShouldRescheduleOnlyFailedEpisodes() {
+        EpisodeLinkEvent failing = event(2, episodeId2, EpisodeLinkEvent.Action.LINK);
+        when(episodeLinkEventRepositoryMock.findDueForClaim(5, now, Limit.of(100)))
+                .thenReturn(List.of(event(1, episodeId, EpisodeLinkEvent.Action.LINK), failing));
+        doThrow(new EpisodeSyncException(Map.of(episodeId2, "down"), 2))
+                .when(episodeApiClientMock).addSeasonToEpisodes(List.of(episodeId, episodeId2), seasonId);
+
+        episodeLinkRelay.relay();
+
+        assertEquals(1, failing.getAttempts());
+        assertEquals(now.plus(Duration.ofSeconds(2)), failing.getNextAttemptAt());
+        assertEquals("down", failing.getLastError());
+        verify(episodeLinkEventRepositoryMock).deleteAllByIdInBatch(List.of(1L));
+        verify(episodeLinkEventRepositoryMock).saveAll(List.of(failing));
+    }
+
+    @Test
+    void relay_ShouldLeaseClaimedEvents_AndReleaseTheLeaseOfRetries() {
+        EpisodeLinkEvent failing = event(1, episodeId, EpisodeLinkEvent.Action.LINK);
+        when(episodeLinkEventRepositoryMock.findDueForClaim(5, now, Limit.of(100))).thenReturn(List.of(failing));
+        doAnswer(invocation -> {
+            assertEquals(now.plus(Duration.ofMinutes(5)), failing.getClaimedUntil());
+            throw new IllegalStateException("down");
+        }).when(episodeApiClientMock).addSeasonToEpisodes(List.of(episodeId), seasonId);
+
+        episodeLinkRelay.relay();
+
+        assertNull(failing.getClaimedUntil());
+        verify(episodeLinkEventRepositoryMock, times(2)).saveAll(List.of(failing));
+    }
+
+    @Test
+    void relay_ShouldSkipSeason_WhenAnotherRelayHoldsALeasedEvent() {
+        UUID otherSeasonId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        EpisodeLinkEvent otherSeasonEvent = new EpisodeLinkEvent(otherSeasonId, episodeId, EpisodeLinkEvent.Action.LINK, now);
+        otherSeasonEvent.setId(3L);
+        EpisodeLinkEvent leased = event(1, episodeId2, EpisodeLinkEvent.Action.LINK);
+        leased.setClaimedUntil(now.plusSeconds(30));
+        when(episodeLinkEventRepositoryMock.findDueForClaim(5, now, Limit.of(100)))
+                .thenReturn(List.of(event(2, episodeId, EpisodeLinkEvent.Action.LINK), otherSeasonEvent));
+        when(episodeLinkEventRepositoryMock.findPendingBySeasonIdIn(any(), eq(List.of(2L, 3L)), eq(5), eq(now)))
+                .thenReturn(List.of(leased));
+
+        episodeLinkRelay.relay();
+
+        verify(episodeApiClientMock).addSeasonToEpisodes(List.of(episodeId), otherSeasonId);
+        verify(episodeApiClientMock, never()).addSeasonToEpisodes(any(), eq(seasonId));
+        verify(episodeLinkEventRepositoryMock).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void relay_ShouldSkipSeason_WhenAnOlderDueEventIsLockedByAnotherRelay() {
+        when(episodeLinkEventRepositoryMock.findDueForClaim(5, now, Limit.of(100)))
+                .thenReturn(List.of(event(2, episodeId, EpisodeLinkEvent.Action.UNLINK)));
+        when(episodeLinkEventRepositoryMock.findPendingBySeasonIdIn(any(), eq(List.of(2L)), eq(5), eq(now)))
+                .thenReturn(List.of(event(1, episodeId, EpisodeLinkEvent.Action.LINK)));
+
+        episodeLinkRelay.relay();
+
+        verifyNoInteractions(episodeApiClientMock);
+        verify(episodeLinkEventRepositoryMock, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void relay_ShouldDoNothing_WhenNoEventsAreDue() {
+        when(episodeLinkEventRepositoryMock.findDueForClaim(5, now, Limit.of(100)))
+                .thenReturn(List.of());
+
+        episodeLinkRelay.relay();
+
+        verifyNoInteractions(episodeApiClientMock);
+        verify(episodeLinkEventRepositoryMock, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void relay_ShouldNotReplayFailedLink_WhenLaterUnlinkWasDelivered() {
+        AtomicReference<Instant> time = new AtomicReference<>(now);
+        Map<Long, EpisodeLinkEvent> outbox = inMemoryOutbox(time);
+        episodeLinkRelay = new EpisodeLinkRelay(episodeLinkEventRepositoryMock, episodeApiClientMock,
+                TransactionOperations.withoutTransaction(), new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return time.get();
+            }
+        }, 100, 5, Duration.ofMinutes(5));
+        outbox.put(1L, event(1, episodeId, EpisodeLinkEvent.Action.LINK));
+        doThrow(new IllegalStateException("Episode service unavailable"))
+                .when(episodeApiClientMock).addSeasonToEpisodes(List.of(episodeId), seasonId);
+        episodeLinkRelay.relay();
+        assertEquals(1, outbox.get(1L).getAttempts());
+
+        outbox.put(2L, event(2, episodeId, EpisodeLinkEvent.Action.UNLINK));
+        episodeLinkRelay.relay();
+        time.set(now.plus(Duration.ofMinutes(1)));
+        episodeLinkRelay.relay();
+
+        verify(episodeApiClientMock).removeSeasonFromEpisodes(List.of(episodeId), seasonId);
+        verify(episodeApiClientMock, times(1)).addSeasonToEpisodes(any(), any());
+        assertTrue(outbox.isEmpty());
+    }
+
+    // outbox table backed by a map, for scenarios that span several relay passes
+    private Map<Long, EpisodeLinkEvent> inMemoryOutbox(AtomicReference<Instant> time) {
+        Map<Long, EpisodeLinkEvent> outbox = new TreeMap<>();
+        when(episodeLinkEventRepositoryMock.findDueForClaim(anyInt(), any(), any()))
+                .thenAnswer(invocation -> outbox.values().stream()
+                        .filter(event -> event.getAttempts() < invocation.<Integer>getArgument(0))
+                        .filter(event -> !event.getNextAttemptAt().isAfter(invocation.getArgument(1)))
+                        .filter(event -> event.getClaimedUntil() == null
+                                || event.getClaimedUntil().isBefore(invocation.getArgument(1)))
+                        .toList());
+        when(episodeLinkEventRepositoryMock.findBySeasonIdInAndAttemptsLessThanAndNextAttemptAtAfter(any(), anyInt(), any()))
+                .thenAnswer(invocation -> outbox.values().stream()
+                        .filter(event -> invocation.<Collection<UUID>>getArgument(0).contains(event.getSeasonId()))
+                        .filter(event -> event.getAttempts() < invocation.<Integer>getArgument(1))
+                        .filter(event -> event.getNextAttemptAt().isAfter(invocation.getArgument(2)))
+                        .toList());
+        doAnswer(invocation -> {
+            invocation.<Collection<Long>>getArgument(0).forEach(outbox::remove);
+            return null;
+        }).when(episodeLinkEventRepositoryMock).deleteAllByIdInBatch(any());
+        return outbox;
+    }
+}
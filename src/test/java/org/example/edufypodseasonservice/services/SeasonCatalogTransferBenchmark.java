@@ -0,0 +1,206 @@
+package org.example.edufypodseasonservice.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonImportResultDto;
+import org.example.edufypodseasonservice.external.EpisodeApiClient;
+import org.example.edufypodseasonservice.mapper.SeasonDtoConverter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// NDJSON import and export of a catalog of a few million rows (seasons plus episode links) through
+// SeasonImporter and SeasonService.exportAllSeasons, against a file-backed H2. Reports rows per second
+// and the largest heap still in use after a collection, which stays flat when nothing is buffered.
+// Most of the import time here is H2 maintaining the indexes on the random episode ids, not the import.
+// Run with: mvn test -Pbenchmark -Dtest=SeasonCatalogTransferBenchmark
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {"spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SeasonServiceImpl.class, SeasonDtoConverter.class, SeasonEditRetry.class, SeasonImporter.class,
+        EpisodeLinkOutbox.class, SeasonCache.class})
+class SeasonCatalogTransferBenchmark {
+
+    private static final int SEASONS = 250_000;
+    private static final int EPISODES_PER_SEASON = 10;
+    private static final int SEASONS_PER_PODCAST = 50;
+    private static final long ROWS = SEASONS + (long) SEASONS * EPISODES_PER_SEASON;
+
+    private static Path dataDir;
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(SeasonCache.SEASONS, SeasonCache.PODCAST_SEASONS);
+        }
+    }
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        dataDir = Files.createTempDirectory("season-catalog");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + dataDir.resolve("catalog") + ";MODE=MySQL");
+    }
+
+    @AfterAll
+    static void deleteData() throws IOException {
+        FileSystemUtils.deleteRecursively(dataDir);
+    }
+
+    @Autowired
+    private SeasonImporter seasonImporter;
+    @Autowired
+    private SeasonService seasonService;
+
+    @MockitoBean
+    private EpisodeApiClient episodeApiClient;
+    @MockitoBean
+    private UserInfo userInfo;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void importAndExportCatalog() throws Exception {
+        Path importFile = dataDir.resolve("import.ndjson");
+        writeCatalog(importFile);
+
+        SeasonImportResultDto result;
+        try (HeapSampler heap = new HeapSampler();
+             InputStream in = new BufferedInputStream(Files.newInputStream(importFile));
+             MappingIterator<SeasonDto> seasonDtos = objectMapper.readerFor(SeasonDto.class).readValues(in)) {
+            long start = System.nanoTime();
+            result = seasonImporter.importSeasons(seasonDtos, false);
+            report("import", start, Files.size(importFile), heap);
+        }
+        assertEquals(SEASONS, result.getImported());
+
+        Path exportFile = dataDir.resolve("export.ndjson");
+        AtomicLong exported = new AtomicLong();
+        try (HeapSampler heap = new HeapSampler();
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(exportFile));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            long start = System.nanoTime();
+            // written the way SeasonController.exportSeasons writes the response
+            seasonService.exportAllSeasons(seasonDto -> {
+                try {
+                    generator.writeObject(seasonDto);
+                    generator.writeRaw('\n');
+                    exported.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+            report("export", start, Files.size(exportFile), heap);
+        }
+        assertEquals(SEASONS, exported.get());
+    }
+
+    private void writeCatalog(Path file) throws IOException {
+        UUID podcastId = UUID.randomUUID();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+             SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            for (int i = 0; i < SEASONS; i++) {
+                if (i % SEASONS_PER_PODCAST == 0) {
+                    podcastId = UUID.randomUUID();
+                }
+                SeasonDto seasonDto = new SeasonDto();
+                seasonDto.setId(UUID.randomUUID());
+                seasonDto.setName("Season " + (i % SEASONS_PER_PODCAST + 1));
+                seasonDto.setSeasonNumber(i % SEASONS_PER_PODCAST + 1);
+                seasonDto.setPodcastId(podcastId);
+                seasonDto.setDescription("A season of a podcast with a description of realistic length.");
+                seasonDto.setImageUrl("https://cdn.example.org/podcasts/images/" + i + ".jpg");
+                seasonDto.setThumbnailUrl("https://cdn.example.org/podcasts/thumbnails/" + i + ".jpg");
+                List<UUID> episodes = new ArrayList<>(EPISODES_PER_SEASON);
+                for (int e = 0; e < EPISODES_PER_SEASON; e++) {
+                    episodes.add(UUID.randomUUID());
+                }
+                seasonDto.setEpisodes(episodes);
+                writer.write(seasonDto);
+            }
+        }
+    }
+
+    private static void report(String name, long start, long bytes, HeapSampler heap) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-6s %8d rows (%d seasons) in %6.1f s = %8.0f rows/s, %5d MiB NDJSON, max heap after gc %4d MiB%n",
+                name, ROWS, SEASONS, seconds, ROWS / seconds, bytes >> 20, heap.maxAfterGc() >> 20);
+    }
+
+    // samples the heap in use right after the last collection of each pool
+    private static class HeapSampler implements AutoCloseable {
+
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicLong max = new AtomicLong();
+
+        HeapSampler() {
+            System.gc();
+            sampler.scheduleAtFixedRate(this::sample, 0, 50, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+            long used = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                    used += pool.getCollectionUsage().getUsed();
+                }
+            }
+            max.accumulateAndGet(used, Math::max);
+        }
+
+        long maxAfterGc() {
+            sample();
+            return max.get();
+        }
+
+        @Override
+        public void close() {
+            sampler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.edufypodseasonservice.services;
+
+import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.entities.EpisodeLinkEvent;
+import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.external.EpisodeApiClient;
+import org.example.edufypodseasonservice.mapper.SeasonDtoConverter;
+import org.example.edufypodseasonservice.repositories.EpisodeLinkEventRepository;
+import org.example.edufypodseasonservice.repositories.SeasonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+// Parallel writers adding and removing episodes of the same season, each in its own transaction.
+// Without the version check the last commit would overwrite the episode set the others wrote.
+@DataJpaTest(properties = {"season.episode-edit.max-attempts=100", "season.episode-edit.backoff=2ms"})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SeasonServiceImpl.class, SeasonDtoConverter.class, EpisodeLinkOutbox.class, SeasonCache.class,
+        SeasonEditRetry.class})
+class SeasonEpisodeConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int EDITS_PER_WRITER = 20;
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(SeasonCache.SEASONS, SeasonCache.PODCAST_SEASONS);
+        }
+    }
+
+    @Autowired
+    private SeasonService seasonService;
+    @Autowired
+    private SeasonRepository seasonRepository;
+    @Autowired
+    private EpisodeLinkEventRepository episodeLinkEventRepository;
+
+    @MockitoBean
+    private EpisodeApiClient episodeApiClient;
+    @MockitoBean
+    private UserInfo userInfo;
+
+    private UUID seasonId;
+    private final List<UUID> initialEpisodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Season season = new Season();
+        season.setName("Season 1");
+        season.setSeasonNumber(1);
+        season.setPodcastId(UUID.randomUUID());
+        for (int i = 0; i < WRITERS / 2 * EDITS_PER_WRITER; i++) {
+            UUID episodeId = UUID.randomUUID();
+            initialEpisodes.add(episodeId);
+            season.getEpisodes().add(episodeId);
+        }
+        seasonId = seasonRepository.save(season).getId();
+        when(episodeApiClient.episodeExists(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seasonRepository.deleteAll();
+        episodeLinkEventRepository.deleteAll();
+    }
+
+    @Test
+    void parallelEpisodeEdits_ShouldNotLoseAnyLink() throws Exception {
+        List<List<UUID>> added = new ArrayList<>();
+        List<List<UUID>> removed = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS / 2; writer++) {
+            List<UUID> episodes = new ArrayList<>();
+            for (int i = 0; i < EDITS_PER_WRITER; i++) {
+                episodes.add(UUID.randomUUID());
+            }
+            added.add(episodes);
+            removed.add(initialEpisodes.subList(writer * EDITS_PER_WRITER, (writer + 1) * EDITS_PER_WRITER));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS / 2; writer++) {
+            List<UUID> toAdd = added.get(writer);
+            List<UUID> toRemove = removed.get(writer);
+            writers.add(() -> {
+                start.await();
+                for (UUID episodeId : toAdd) {
+                    seasonService.addOneEpisodeToSeason(seasonId, episodeId);
+                }
+                return null;
+            });
+            writers.add(() -> {
+                start.await();
+                for (UUID episodeId : toRemove) {
+                    seasonService.removeOneEpisodeFromSeason(seasonId, episodeId);
+                }
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (Callable<Void> writer : writers) {
+                results.add(executor.submit(writer));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<UUID> expected = new HashSet<>();
+        added.forEach(expected::addAll);
+        Set<UUID> actual = new HashSet<>(seasonService.getSeason(seasonId).getEpisodes());
+        assertEquals(expected, actual);
+
+        // rolled back attempts leave no outbox events behind
+        List<EpisodeLinkEvent> events = episodeLinkEventRepository.findAll();
+        assertEquals(WRITERS / 2 * EDITS_PER_WRITER,
+                events.stream().filter(e -> e.getAction() == EpisodeLinkEvent.Action.LINK).count());
+        assertEquals(WRITERS / 2 * EDITS_PER_WRITER,
+                events.stream().filter(e -> e.getAction() == EpisodeLinkEvent.Action.UNLINK).count());
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.edufypodseasonservice.services;
+
+import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonImportResultDto;
+import org.example.edufypodseasonservice.entities.Season;
+import org.example.edufypodseasonservice.repositories.EpisodeLinkEventRepository;
+import org.example.edufypodseasonservice.repositories.SeasonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Batches of two, each committed on its own like a real import
+@DataJpaTest(properties = "season.import.batch-size=2")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SeasonImporter.class, EpisodeLinkOutbox.class, SeasonCache.class})
+class SeasonImporterTest {
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(SeasonCache.SEASONS, SeasonCache.PODCAST_SEASONS);
+        }
+    }
+
+    @Autowired
+    private SeasonImporter seasonImporter;
+    @Autowired
+    private SeasonRepository seasonRepository;
+    @Autowired
+    private EpisodeLinkEventRepository episodeLinkEventRepository;
+
+    @MockitoBean
+    private UserInfo userInfo;
+
+    private final UUID podcastId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @AfterEach
+    void tearDown() {
+        seasonRepository.deleteAll();
+        episodeLinkEventRepository.deleteAll();
+    }
+
+    @Test
+    void importSeasons_ShouldKeepIdsAndEpisodes() {
+        SeasonDto first = seasonDto(1, UUID.randomUUID(), UUID.randomUUID());
+        SeasonDto second = seasonDto(2, UUID.randomUUID());
+        SeasonDto withoutId = seasonDto(3);
+        withoutId.setId(null);
+
+        SeasonImportResultDto result = seasonImporter.importSeasons(List.of(first, second, withoutId).iterator(), true);
+
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        Season imported = seasonRepository.findById(first.getId()).orElseThrow();
+        assertEquals(Set.copyOf(first.getEpisodes()), imported.getEpisodes());
+        assertEquals("Season 1", imported.getName());
+        assertEquals(3, seasonRepository.count());
+        assertEquals(3, episodeLinkEventRepository.count());
+    }
+
+    @Test
+    void importSeasons_ShouldReportRejectedLines_AndSkipImportedSeasonsOnRerun() {
+        SeasonDto nameless = seasonDto(2);
+        nameless.setName(null);
+        List<SeasonDto> seasonDtos = List.of(seasonDto(1), nameless, seasonDto(3), seasonDto(3), seasonDto(4));
+
+        SeasonImportResultDto result = seasonImporter.importSeasons(seasonDtos.iterator(), false);
+
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of("Line 2: Name is required", "Line 4: Season with that number already exists"),
+                result.getErrors());
+        assertEquals(0, episodeLinkEventRepository.count());
+
+        SeasonImportResultDto rerun = seasonImporter.importSeasons(seasonDtos.iterator(), false);
+
+        assertEquals(0, rerun.getImported());
+        assertEquals(3, rerun.getSkipped());
+        assertEquals(2, rerun.getFailed());
+        assertEquals(3, seasonRepository.count());
+    }
+
+    @Test
+    void importSeasons_ShouldStop_OnUnreadableLine() {
+        List<SeasonDto> readable = List.of(seasonDto(1), seasonDto(2));
+        Iterator<SeasonDto> seasonDtos = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public SeasonDto next() {
+                if (read == readable.size()) {
+                    throw new IllegalStateException("Unexpected character");
+                }
+                return readable.get(read++);
+            }
+        };
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> seasonImporter.importSeasons(seasonDtos, false));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertEquals("Season on line 3 can't be read, 2 seasons before it were imported", ex.getReason());
+        assertEquals(2, seasonRepository.count());
+    }
+
+    @Test
+    void importSeasons_ShouldStop_OnViolationOtherThanSeasonNumber() {
+        SeasonDto tooLong = seasonDto(2);
+        tooLong.setName("x".repeat(51));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> seasonImporter.importSeasons(List.of(seasonDto(1), tooLong).iterator(), false));
+
+        assertEquals(0, seasonRepository.count());
+    }
+
+    private SeasonDto seasonDto(int seasonNumber, UUID... episodeIds) {
+        SeasonDto seasonDto = new SeasonDto();
+        seasonDto.setId(UUID.randomUUID());
+        seasonDto.setName("Season " + seasonNumber);
+        seasonDto.setPodcastId(podcastId);
+        seasonDto.setSeasonNumber(seasonNumber);
+        seasonDto.setEpisodes(new ArrayList<>(List.of(episodeIds)));
+        return seasonDto;
+    }
+}
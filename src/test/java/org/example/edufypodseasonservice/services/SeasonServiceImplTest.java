@@ -1,22 +1,40 @@
 package org.example.edufypodseasonservice.services;
 
+import jakarta.persistence.EntityManager;
 import org.example.edufypodseasonservice.converters.UserInfo;
+import org.example.edufypodseasonservice.dto.SeasonBulkResultDto;
 import org.example.edufypodseasonservice.dto.SeasonDto;
+import org.example.edufypodseasonservice.dto.SeasonPageDto;
 import org.example.edufypodseasonservice.entities.Season;
 import org.example.edufypodseasonservice.external.EpisodeApiClient;
 import org.example.edufypodseasonservice.mapper.SeasonDtoConverter;
+import org.example.edufypodseasonservice.repositories.EpisodeSeason;
+import org.example.edufypodseasonservice.repositories.PodcastSeasonNumber;
 import org.example.edufypodseasonservice.repositories.SeasonRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,9 +50,13 @@ class SeasonServiceImplTest {
     private SeasonRepository seasonRepositoryMock;
     @Mock
     private EpisodeApiClient episodeApiClientMock;
+    @Mock
+    private EpisodeLinkOutbox episodeLinkOutboxMock;
 
     @Mock
     private UserInfo userInfoMock;
+    @Mock
+    private EntityManager entityManagerMock;
 
     private final SeasonDtoConverter seasonDtoConverter = new SeasonDtoConverter();
 
@@ -43,6 +65,7 @@ class SeasonServiceImplTest {
 
     private Season season;
     private SeasonDto seasonDto;
+    private SeasonCache seasonCache;
 
 
     private final UUID seasonId = UUID.fromString("00000000-0000-0000-0000-000000000001");
@@ -53,7 +76,10 @@ class SeasonServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        seasonService = new SeasonServiceImpl(seasonRepositoryMock, seasonDtoConverter, episodeApiClientMock, userInfoMock);
+        seasonCache = new SeasonCache(new ConcurrentMapCacheManager(SeasonCache.SEASONS, SeasonCache.PODCAST_SEASONS));
+        seasonService = new SeasonServiceImpl(seasonRepositoryMock, seasonDtoConverter, episodeApiClientMock,
+                episodeLinkOutboxMock, userInfoMock, entityManagerMock, seasonCache,
+                new SeasonEditRetry(TransactionOperations.withoutTransaction(), 3, Duration.ZERO), Duration.ofMinutes(5));
 
         season = new Season();
         season.setId(seasonId);
@@ -61,7 +87,7 @@ class SeasonServiceImplTest {
         season.setPodcastId(podcastId);
         season.setSeasonNumber(1);
         season.setDescription("Description");
-        season.setEpisodes(new ArrayList<>());
+        season.setEpisodes(new LinkedHashSet<>());
         season.setImageUrl("image.png");
         season.setThumbnailUrl("thumb.png");
 
@@ -113,6 +139,61 @@ class SeasonServiceImplTest {
         verify(seasonRepositoryMock, times(1)).findById(seasonId);
     }
 
+    @Test
+    void getSeason_ShouldServeRepeatedReadsFromCache() {
+        when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
+
+        seasonService.getSeason(seasonId);
+        SeasonDto result = seasonService.getSeason(seasonId);
+
+        assertEquals(seasonId, result.getId());
+        verify(seasonRepositoryMock, times(1)).findById(seasonId);
+    }
+
+    @Test
+    void getSeason_ShouldNotCacheRowLoaded_WhileAWriteEvicted() {
+        when(seasonRepositoryMock.findById(seasonId))
+                .thenAnswer(invocation -> {
+                    seasonCache.evict(seasonId, podcastId);
+                    return Optional.of(season);
+                })
+                .thenReturn(Optional.of(season));
+
+        seasonService.getSeason(seasonId);
+        seasonService.getSeason(seasonId);
+        seasonService.getSeason(seasonId);
+
+        verify(seasonRepositoryMock, times(2)).findById(seasonId);
+    }
+
+    @Test
+    void getSeason_ShouldReloadAfterEpisodeAdded() {
+        season.getEpisodes().clear();
+        when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
+        when(episodeApiClientMock.episodeExists(episodeId)).thenReturn(true);
+        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(i -> i.getArgument(0));
+
+        seasonService.getSeason(seasonId);
+        seasonService.addOneEpisodeToSeason(seasonId, episodeId);
+        SeasonDto result = seasonService.getSeason(seasonId);
+
+        assertEquals(List.of(episodeId), result.getEpisodes());
+        verify(seasonRepositoryMock, times(3)).findById(seasonId);
+    }
+
+    @Test
+    void getSeasonsByPodcast_ShouldReloadAfterSeasonAdded() {
+        when(seasonRepositoryMock.findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(podcastId)).thenReturn(List.of(season));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenAnswer(i -> i.getArgument(0));
+
+        seasonService.getSeasonsByPodcast(podcastId, true);
+        seasonService.getSeasonsByPodcast(podcastId, true);
+        seasonService.addSeason(seasonDto);
+        seasonService.getSeasonsByPodcast(podcastId, true);
+
+        verify(seasonRepositoryMock, times(2)).findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(podcastId);
+    }
+
     //getAllSeasons
     @Test
     void getAllSeasons_ShouldReturnListOfLimitedDtos() {
@@ -130,6 +211,96 @@ class SeasonServiceImplTest {
         verify(seasonRepositoryMock, times(1)).findAllByOrderByPodcastIdAscSeasonNumberAsc();
     }
 
+    //getSeasonsPage
+    @Test
+    void getSeasonsPage_ShouldReturnFirstPageWithCursor_WhenPageIsFull() {
+        when(seasonRepositoryMock.findAllByOrderByPodcastIdAscSeasonNumberAsc(Limit.of(1))).thenReturn(List.of(season));
+
+        SeasonPageDto result = seasonService.getSeasonsPage(null, null, 1);
+
+        assertEquals(1, result.getSeasons().size());
+        assertNull(result.getSeasons().get(0).getDescription());
+        assertEquals(podcastId, result.getNextPodcastId());
+        assertEquals(1, result.getNextSeasonNumber());
+    }
+
+    @Test
+    void getSeasonsPage_ShouldReturnNoCursor_WhenLastPage() {
+        when(seasonRepositoryMock.findSeasonsAfter(podcastId, 1, Limit.of(10))).thenReturn(List.of(season));
+
+        SeasonPageDto result = seasonService.getSeasonsPage(podcastId, 1, 10);
+
+        assertEquals(1, result.getSeasons().size());
+        assertNull(result.getNextPodcastId());
+        assertNull(result.getNextSeasonNumber());
+    }
+
+    @Test
+    void getSeasonsPage_ShouldThrow_WhenCursorIncomplete() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () ->
+                seasonService.getSeasonsPage(podcastId, null, 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertEquals("Both afterPodcastId and afterSeasonNumber must be provided", ex.getReason());
+        verifyNoInteractions(seasonRepositoryMock);
+    }
+
+    @Test
+    void getSeasonsPage_ShouldThrow_WhenSizeOutOfRange() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () ->
+                seasonService.getSeasonsPage(null, null, 0));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertEquals("Size must be between 1 and 500", ex.getReason());
+        verifyNoInteractions(seasonRepositoryMock);
+    }
+
+    //streamAllSeasons
+    @Test
+    void streamAllSeasons_ShouldPassLimitedDtosAndDetachEntities() {
+        when(seasonRepositoryMock.streamAllByOrderByPodcastIdAscSeasonNumberAsc()).thenReturn(Stream.of(season));
+        List<SeasonDto> streamed = new ArrayList<>();
+
+        seasonService.streamAllSeasons(streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals(season.getId(), streamed.get(0).getId());
+        assertNull(streamed.get(0).getEpisodes());
+        verify(entityManagerMock).detach(season);
+    }
+
+    @Test
+    void streamAllSeasons_ShouldAbort_WhenStreamTimeoutPassed() {
+        SeasonServiceImpl timedOutService = new SeasonServiceImpl(seasonRepositoryMock, seasonDtoConverter,
+                episodeApiClientMock, episodeLinkOutboxMock, userInfoMock, entityManagerMock, new SeasonCache(
+                        new ConcurrentMapCacheManager(SeasonCache.SEASONS, SeasonCache.PODCAST_SEASONS)),
+                new SeasonEditRetry(TransactionOperations.withoutTransaction(), 3, Duration.ZERO), Duration.ZERO);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(seasonRepositoryMock.streamAllByOrderByPodcastIdAscSeasonNumberAsc())
+                .thenReturn(Stream.of(season).onClose(() -> closed.set(true)));
+        List<SeasonDto> streamed = new ArrayList<>();
+
+        assertThrows(TransactionTimedOutException.class, () -> timedOutService.streamAllSeasons(streamed::add));
+
+        assertTrue(streamed.isEmpty());
+        assertTrue(closed.get());
+    }
+
+    //exportAllSeasons
+    @Test
+    void exportAllSeasons_ShouldPassFullDtosAndDetachEntities() {
+        season.getEpisodes().add(episodeId);
+        when(seasonRepositoryMock.streamAllWithEpisodes()).thenReturn(Stream.of(season));
+        List<SeasonDto> exported = new ArrayList<>();
+
+        seasonService.exportAllSeasons(exported::add);
+
+        assertEquals(1, exported.size());
+        assertEquals(List.of(episodeId), exported.get(0).getEpisodes());
+        assertEquals(season.getDescription(), exported.get(0).getDescription());
+        verify(entityManagerMock).detach(season);
+    }
+
     //getSeasonsByPodcast
     @Test
     void getSeasonsByPodcast_ShouldReturnLimitedDtos_WhenFullFalse() {
@@ -148,7 +319,7 @@ class SeasonServiceImplTest {
     @Test
     void getSeasonsByPodcast_ShouldReturnFullDtos_WhenFullTrue() {
         List<Season> seasons = Arrays.asList(season);
-        when(seasonRepositoryMock.findByPodcastIdOrderBySeasonNumberAsc(podcastId)).thenReturn(seasons);
+        when(seasonRepositoryMock.findWithEpisodesByPodcastIdOrderBySeasonNumberAsc(podcastId)).thenReturn(seasons);
 
         List<SeasonDto> result = seasonService.getSeasonsByPodcast(podcastId, true);
 
@@ -167,6 +338,63 @@ class SeasonServiceImplTest {
         assertEquals("PodcastId must be provided", ex.getReason());
     }
 
+    //getSeasonsByEpisode
+    @Test
+    void getSeasonsByEpisode_ShouldReturnLimitedDtos() {
+        season.getEpisodes().add(episodeId);
+        when(seasonRepositoryMock.findByEpisodeId(episodeId)).thenReturn(List.of(season));
+
+        List<SeasonDto> result = seasonService.getSeasonsByEpisode(episodeId);
+
+        assertEquals(1, result.size());
+        assertEquals(seasonId, result.get(0).getId());
+        assertNull(result.get(0).getEpisodes());
+    }
+
+    @Test
+    void getSeasonsByEpisode_ShouldThrow_WhenEpisodeNotInAnySeason() {
+        when(seasonRepositoryMock.findByEpisodeId(episodeId)).thenReturn(List.of());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () ->
+                seasonService.getSeasonsByEpisode(episodeId));
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+    }
+
+    @Test
+    void getSeasonsByEpisodes_ShouldReturnEveryRequestedEpisode() {
+        season.getEpisodes().add(episodeId);
+        EpisodeSeason episodeSeason = new EpisodeSeason() {
+            @Override
+            public UUID getEpisodeId() {
+                return episodeId;
+            }
+
+            @Override
+            public Season getSeason() {
+                return season;
+            }
+        };
+        when(seasonRepositoryMock.findByEpisodeIdIn(Set.of(episodeId, episodeId2))).thenReturn(List.of(episodeSeason));
+
+        Map<UUID, List<SeasonDto>> result = seasonService.getSeasonsByEpisodes(List.of(episodeId, episodeId2));
+
+        assertEquals(List.of(episodeId, episodeId2), List.copyOf(result.keySet()));
+        assertEquals(seasonId, result.get(episodeId).get(0).getId());
+        assertTrue(result.get(episodeId2).isEmpty());
+    }
+
+    @Test
+    void getSeasonsByEpisodes_ShouldThrow_WhenTooManyEpisodes() {
+        List<UUID> episodeIds = Stream.generate(UUID::randomUUID).limit(501).toList();
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () ->
+                seasonService.getSeasonsByEpisodes(episodeIds));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(seasonRepositoryMock);
+    }
+
     //getFirstSeason
     @Test
     void getFirstSeason_ShouldReturnFirstSeason() {
@@ -220,15 +448,14 @@ class SeasonServiceImplTest {
     //addSeason
     @Test
     void addSeason_ShouldSaveAndReturnSeason() {
-        when(seasonRepositoryMock.existsByPodcastIdAndSeasonNumber(podcastId, 1)).thenReturn(false);
-        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Season result = seasonService.addSeason(seasonDto);
 
         assertNotNull(result);
         assertEquals(seasonDto.getName(), result.getName());
         assertEquals(seasonDto.getPodcastId(), result.getPodcastId());
-        verify(seasonRepositoryMock, times(1)).save(any(Season.class));
+        verify(seasonRepositoryMock, times(1)).saveAndFlush(any(Season.class));
     }
 
     @Test
@@ -236,9 +463,7 @@ class SeasonServiceImplTest {
         seasonDto.setDescription("");
         seasonDto.setThumbnailUrl("");
         seasonDto.setImageUrl("");
-
-        when(seasonRepositoryMock.existsByPodcastIdAndSeasonNumber(podcastId, 1)).thenReturn(false);
-        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Season result = seasonService.addSeason(seasonDto);
 
@@ -248,7 +473,7 @@ class SeasonServiceImplTest {
         assertEquals("https://default/image.url", result.getImageUrl());
         assertEquals(seasonDto.getDescription(), result.getDescription());
         assertEquals(seasonDto.getPodcastId(), result.getPodcastId());
-        verify(seasonRepositoryMock, times(1)).save(any(Season.class));
+        verify(seasonRepositoryMock, times(1)).saveAndFlush(any(Season.class));
     }
 
 
@@ -258,9 +483,7 @@ class SeasonServiceImplTest {
         seasonDto.setThumbnailUrl(null);
         seasonDto.setImageUrl(null);
         seasonDto.setEpisodes(null);
-
-        when(seasonRepositoryMock.existsByPodcastIdAndSeasonNumber(podcastId, 1)).thenReturn(false);
-        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Season result = seasonService.addSeason(seasonDto);
 
@@ -270,7 +493,7 @@ class SeasonServiceImplTest {
         assertEquals("https://default/thumbnail.url", result.getThumbnailUrl());
         assertEquals("https://default/image.url", result.getImageUrl());
         assertEquals(seasonDto.getPodcastId(), result.getPodcastId());
-        verify(seasonRepositoryMock, times(1)).save(any(Season.class));
+        verify(seasonRepositoryMock, times(1)).saveAndFlush(any(Season.class));
     }
 
 
@@ -280,7 +503,7 @@ class SeasonServiceImplTest {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Name is required", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -289,7 +512,7 @@ class SeasonServiceImplTest {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Name is required", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -298,7 +521,7 @@ class SeasonServiceImplTest {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("PodcastId is required", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -307,16 +530,27 @@ class SeasonServiceImplTest {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Season number is required", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
     void addSeason_ShouldThrow_WhenSeasonNumberAlreadyExists() {
-        when(seasonRepositoryMock.existsByPodcastIdAndSeasonNumber(seasonDto.getPodcastId(), seasonDto.getSeasonNumber())).thenReturn(true);
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenThrow(seasonNumberConflict());
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
         assertEquals("Season with that number already exists", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+    }
+
+    @Test
+    void addSeason_ShouldRethrow_WhenOtherConstraintViolated() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Value too long", new SQLException("Value too long"), null));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenThrow(violation);
+
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> seasonService.addSeason(seasonDto));
+
+        assertSame(violation, ex);
     }
 
     @Test
@@ -325,7 +559,7 @@ class SeasonServiceImplTest {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Episodes can't be added from this endpoint", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -334,14 +568,91 @@ class SeasonServiceImplTest {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> seasonService.addSeason(seasonDto));
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Episodes can't be added from this endpoint", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
+    }
+
+    //addSeasons
+    @Test
+    void addSeasons_ShouldReportResultPerItem() {
+        SeasonDto nameless = newSeasonDto(podcastId, 4);
+        nameless.setName(" ");
+        List<SeasonDto> seasonDtos = List.of(newSeasonDto(podcastId, 1), nameless, newSeasonDto(podcastId, 2),
+                newSeasonDto(podcastId, 1), newSeasonDto(podcastId, 3));
+        when(seasonRepositoryMock.findSeasonNumbersByPodcastIdIn(Set.of(podcastId)))
+                .thenReturn(List.of(podcastSeasonNumber(podcastId, 2)));
+        when(seasonRepositoryMock.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Season> saved = new ArrayList<>(invocation.getArgument(0));
+            saved.forEach(newSeason -> newSeason.setId(UUID.randomUUID()));
+            return saved;
+        });
+
+        List<SeasonBulkResultDto> results = seasonService.addSeasons(seasonDtos);
+
+        assertEquals(List.of(201, 400, 409, 409, 201), results.stream().map(SeasonBulkResultDto::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(SeasonBulkResultDto::getIndex).toList());
+        assertNotNull(results.get(0).getId());
+        assertNotNull(results.get(4).getId());
+        assertEquals("Name is required", results.get(1).getMessage());
+        assertEquals("Season with that number already exists", results.get(2).getMessage());
+        assertNull(results.get(3).getId());
+        verify(seasonRepositoryMock, times(1)).findSeasonNumbersByPodcastIdIn(any());
+        verify(seasonRepositoryMock, times(1)).saveAll(argThat(seasons -> ((Collection<?>) seasons).size() == 2));
+        verify(seasonRepositoryMock).flush();
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void addSeasons_ShouldNotSave_WhenNoSeasonIsValid() {
+        SeasonDto withoutPodcast = newSeasonDto(null, 1);
+
+        List<SeasonBulkResultDto> results = seasonService.addSeasons(List.of(withoutPodcast));
+
+        assertEquals(400, results.get(0).getStatus());
+        assertEquals("PodcastId is required", results.get(0).getMessage());
+        verifyNoInteractions(seasonRepositoryMock);
+    }
+
+    @Test
+    void addSeasons_ShouldThrow_WhenEmpty() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> seasonService.addSeasons(List.of()));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertEquals("At least one season must be provided", ex.getReason());
+        verifyNoInteractions(seasonRepositoryMock);
+    }
+
+    @Test
+    void addSeasons_ShouldThrow_WhenTooManySeasons() {
+        List<SeasonDto> seasonDtos = new ArrayList<>();
+        for (int i = 1; i <= 501; i++) {
+            seasonDtos.add(newSeasonDto(podcastId, i));
+        }
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> seasonService.addSeasons(seasonDtos));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        verifyNoInteractions(seasonRepositoryMock);
+    }
+
+    @Test
+    void addSeasons_ShouldThrowConflict_WhenNumberTakenConcurrently() {
+        when(seasonRepositoryMock.findSeasonNumbersByPodcastIdIn(any())).thenReturn(List.of());
+        doThrow(seasonNumberConflict()).when(seasonRepositoryMock).flush();
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> seasonService.addSeasons(List.of(newSeasonDto(podcastId, 1))));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals("Season with that number already exists", ex.getReason());
     }
 
     //updateSeason
     @Test
     void updateSeason_ShouldUpdateAndReturnSeason() {
         when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
-        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         seasonDto.setName("Updated Name");
         seasonDto.setDescription("New Desc");
@@ -349,8 +660,6 @@ class SeasonServiceImplTest {
         seasonDto.setThumbnailUrl("newthumb.png");
         seasonDto.setSeasonNumber(2);
 
-        when(seasonRepositoryMock.existsByPodcastIdAndSeasonNumber(podcastId, 2)).thenReturn(false);
-
         Season result = seasonService.updateSeason(seasonDto);
 
         assertEquals("Updated Name", result.getName());
@@ -358,13 +667,13 @@ class SeasonServiceImplTest {
         assertEquals("new.png", result.getImageUrl());
         assertEquals("newthumb.png", result.getThumbnailUrl());
         assertEquals(2, result.getSeasonNumber());
-        verify(seasonRepositoryMock).save(any());
+        verify(seasonRepositoryMock).saveAndFlush(any());
     }
 
      @Test
     void updateSeason_ShouldUpdateAndReturnSeasonIgnoringNullValues() {
         when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
-        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         seasonDto.setName(null);
         seasonDto.setDescription(null);
@@ -383,7 +692,7 @@ class SeasonServiceImplTest {
         assertEquals(season.getSeasonNumber(), result.getSeasonNumber());
         assertEquals(season.getPodcastId(), result.getPodcastId());
         assertEquals(season.getEpisodes(), result.getEpisodes());
-        verify(seasonRepositoryMock).save(any());
+        verify(seasonRepositoryMock).saveAndFlush(any());
     }
 
     @Test
@@ -421,7 +730,7 @@ class SeasonServiceImplTest {
 
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Name can not be left blank.", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -435,7 +744,7 @@ class SeasonServiceImplTest {
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
         assertEquals("Update of podcastId not allowed.", exception.getReason());
 
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -443,14 +752,13 @@ class SeasonServiceImplTest {
         when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
         seasonDto.setSeasonNumber(2);
 
-        when(seasonRepositoryMock.existsByPodcastIdAndSeasonNumber(podcastId, 2)).thenReturn(true);
+        when(seasonRepositoryMock.saveAndFlush(any(Season.class))).thenThrow(seasonNumberConflict());
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
                 () -> seasonService.updateSeason(seasonDto));
 
         assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
         assertEquals("Season with that number already exists", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
     }
 
     @Test
@@ -463,7 +771,7 @@ class SeasonServiceImplTest {
 
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Description can not be left blank.", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     @Test
@@ -476,7 +784,7 @@ class SeasonServiceImplTest {
 
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         assertEquals("Episodes can't be added from this endpoint", ex.getReason());
-        verify(seasonRepositoryMock, never()).save(any());
+        verify(seasonRepositoryMock, never()).saveAndFlush(any());
     }
 
     //deleteSeason
@@ -488,10 +796,22 @@ class SeasonServiceImplTest {
         String result = seasonService.deleteSeason(seasonId);
 
         assertThat(result).contains(seasonId.toString());
-        verify(episodeApiClientMock, times(1)).removeSeasonFromEpisode(episodeId, seasonId);
+        verify(episodeLinkOutboxMock, times(1)).unlink(seasonId, List.of(episodeId));
         verify(seasonRepositoryMock, times(1)).deleteById(seasonId);
     }
 
+    @Test
+    void deleteSeason_ShouldRecordUnlinksWithoutCallingEpisodeService() {
+        season.setEpisodes(new LinkedHashSet<>(List.of(episodeId, episodeId2)));
+        when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
+
+        seasonService.deleteSeason(seasonId);
+
+        verify(episodeLinkOutboxMock).unlink(seasonId, List.of(episodeId, episodeId2));
+        verifyNoInteractions(episodeApiClientMock);
+        verify(seasonRepositoryMock).deleteById(seasonId);
+    }
+
     @Test
     void deleteSeason_ShouldThrow_WhenIdNull() {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () ->
@@ -518,7 +838,7 @@ class SeasonServiceImplTest {
         String result = seasonService.deleteSeason(seasonId);
 
         assertThat(result).contains(seasonId.toString());
-        verify(episodeApiClientMock, never()).removeSeasonFromEpisode(any(), any());
+        verify(episodeLinkOutboxMock, never()).unlink(any(), any());
         verify(seasonRepositoryMock, times(1)).deleteById(seasonId);
     }
 
@@ -537,7 +857,7 @@ class SeasonServiceImplTest {
         assertEquals(episodeId, result.getEpisodes().get(0));
         assertEquals(episodeId2, result.getEpisodes().get(1));
         verify(seasonRepositoryMock, times(1)).save(season);
-        verify(episodeApiClientMock, times(2)).addSeasonToEpisode(any(), eq(seasonId));
+        verify(episodeLinkOutboxMock, times(1)).link(seasonId, List.of(episodeId, episodeId2));
     }
 
     @Test
@@ -587,7 +907,7 @@ class SeasonServiceImplTest {
     void addEpisodesToSeason_ShouldNotDuplicateExistingEpisodes() {
         UUID existingEp = episodeId;
         UUID newEp = episodeId2;
-        season.setEpisodes(new ArrayList<>(List.of(existingEp)));
+        season.setEpisodes(new LinkedHashSet<>(List.of(existingEp)));
 
         List<UUID> incoming = List.of(existingEp, newEp);
 
@@ -597,7 +917,7 @@ class SeasonServiceImplTest {
         SeasonDto result = seasonService.addEpisodesToSeason(seasonId, incoming);
 
         assertEquals(2, result.getEpisodes().size());
-        verify(episodeApiClientMock, times(1)).addSeasonToEpisode(eq(newEp), eq(seasonId));
+        verify(episodeLinkOutboxMock, times(1)).link(seasonId, List.of(newEp));
         verify(seasonRepositoryMock).save(any());
     }
 
@@ -613,10 +933,44 @@ class SeasonServiceImplTest {
 
         assertEquals(1, result.getEpisodes().size());
         assertTrue(result.getEpisodes().contains(episodeId));
-        verify(episodeApiClientMock, times(1)).addSeasonToEpisode(episodeId, seasonId);
+        verify(episodeLinkOutboxMock, times(1)).link(seasonId, List.of(episodeId));
         verify(seasonRepositoryMock, times(1)).save(season);
     }
 
+    @Test
+    void addOneEpisodeToSeason_ShouldAskPodcastServiceOutsideTheTransaction() {
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                inTransaction.set(true);
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    inTransaction.set(false);
+                }
+            }
+        };
+        seasonService = new SeasonServiceImpl(seasonRepositoryMock, seasonDtoConverter, episodeApiClientMock,
+                episodeLinkOutboxMock, userInfoMock, entityManagerMock, seasonCache,
+                new SeasonEditRetry(transactionOperations, 3, Duration.ZERO), Duration.ofMinutes(5));
+        season.getEpisodes().clear();
+        when(seasonRepositoryMock.findById(seasonId)).thenAnswer(i -> {
+            assertTrue(inTransaction.get());
+            return Optional.of(season);
+        });
+        when(episodeApiClientMock.episodeExists(episodeId)).thenAnswer(i -> {
+            assertFalse(inTransaction.get());
+            return true;
+        });
+        when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(i -> i.getArgument(0));
+
+        seasonService.addOneEpisodeToSeason(seasonId, episodeId);
+
+        verify(episodeApiClientMock).episodeExists(episodeId);
+        verify(episodeLinkOutboxMock).link(seasonId, List.of(episodeId));
+    }
+
     @Test
     void addOneEpisodeToSeason_ShouldThrow_WhenSeasonIdNull() {
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
@@ -676,7 +1030,7 @@ class SeasonServiceImplTest {
         assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
         assertEquals("Episode " + episodeId + " already exists in season " + seasonId, ex.getReason());
         verify(seasonRepositoryMock, never()).save(any());
-        verify(episodeApiClientMock, never()).addSeasonToEpisode(any(), any());
+        verify(episodeLinkOutboxMock, never()).link(any(), any());
     }
 
 
@@ -695,7 +1049,7 @@ class SeasonServiceImplTest {
     //removeEpisodesFromSeason
     @Test
     void removeEpisodesFromSeason_ShouldRemoveEpisodesAndReturnDto() {
-        season.setEpisodes(new ArrayList<>(List.of(episodeId, episodeId2)));
+        season.setEpisodes(new LinkedHashSet<>(List.of(episodeId, episodeId2)));
 
         List<UUID> toRemove = List.of(episodeId);
 
@@ -709,12 +1063,12 @@ class SeasonServiceImplTest {
         assertTrue(result.getEpisodes().contains(episodeId2));
 
         verify(seasonRepositoryMock).save(season);
-        verify(episodeApiClientMock).removeSeasonFromEpisode(episodeId, seasonId);
+        verify(episodeLinkOutboxMock).unlink(seasonId, List.of(episodeId));
     }
 
     @Test
     void removeEpisodesFromSeason_ShouldDoNothingIfEpisodeNotInSeason() {
-        season.setEpisodes(new ArrayList<>(List.of(episodeId)));
+        season.setEpisodes(new LinkedHashSet<>(List.of(episodeId)));
 
         List<UUID> toRemove = List.of(episodeId2);
 
@@ -727,7 +1081,7 @@ class SeasonServiceImplTest {
         assertTrue(result.getEpisodes().contains(episodeId));
 
         verify(seasonRepositoryMock).save(season);
-        verify(episodeApiClientMock, never()).removeSeasonFromEpisode(any(), any());
+        verify(episodeLinkOutboxMock, never()).unlink(any(), any());
     }
 
     @Test
@@ -782,7 +1136,7 @@ class SeasonServiceImplTest {
     //removeOneEpisodeFromSeason
     @Test
     void removeOneEpisodeFromSeason_ShouldRemoveEpisode() {
-        season.setEpisodes(new ArrayList<>(List.of(episodeId)));
+        season.setEpisodes(new LinkedHashSet<>(List.of(episodeId)));
 
         when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
         when(seasonRepositoryMock.save(any(Season.class))).thenAnswer(i -> i.getArgument(0));
@@ -791,7 +1145,7 @@ class SeasonServiceImplTest {
 
         assertEquals(0, result.getEpisodes().size());
         verify(seasonRepositoryMock).save(season);
-        verify(episodeApiClientMock).removeSeasonFromEpisode(episodeId, seasonId);
+        verify(episodeLinkOutboxMock).unlink(seasonId, List.of(episodeId));
     }
 
     @Test
@@ -830,7 +1184,7 @@ class SeasonServiceImplTest {
 
     @Test
     void removeOneEpisodeFromSeason_ShouldThrow_WhenEpisodeNotInSeason() {
-        season.setEpisodes(new ArrayList<>());
+        season.setEpisodes(new LinkedHashSet<>());
 
         when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season));
 
@@ -840,7 +1194,87 @@ class SeasonServiceImplTest {
         assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
         assertEquals("Episode " + episodeId + " dosen't exists in season " + seasonId, ex.getReason());
         verify(seasonRepositoryMock, never()).save(any());
-        verify(episodeApiClientMock, never()).removeSeasonFromEpisode(any(), any());
+        verify(episodeLinkOutboxMock, never()).unlink(any(), any());
     }
 
-}
\ No newline at end of file
+    //optimistic locking retry
+    @Test
+    void addOneEpisodeToSeason_ShouldRetryOnConcurrentChange() {
+        Season reloaded = seasonWithEpisodes(episodeId2);
+
+        when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.of(season), Optional.of(reloaded));
+        when(episodeApiClientMock.episodeExists(episodeId)).thenReturn(true);
+        when(seasonRepositoryMock.save(any(Season.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Season.class, seasonId))
+                .thenAnswer(i -> i.getArgument(0));
+
+        SeasonDto result = seasonService.addOneEpisodeToSeason(seasonId, episodeId);
+
+        assertEquals(List.of(episodeId2, episodeId), result.getEpisodes());
+        verify(seasonRepositoryMock, times(2)).findById(seasonId);
+        verify(seasonRepositoryMock).save(reloaded);
+        // the podcast service is asked once, before the first attempt
+        verify(episodeApiClientMock, times(1)).episodeExists(episodeId);
+    }
+
+    @Test
+    void removeEpisodesFromSeason_ShouldThrowConflict_WhenRetriesExhausted() {
+        when(seasonRepositoryMock.findById(seasonId))
+                .thenAnswer(i -> Optional.of(seasonWithEpisodes(episodeId, episodeId2)));
+        when(seasonRepositoryMock.save(any(Season.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Season.class, seasonId));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> seasonService.removeEpisodesFromSeason(seasonId, List.of(episodeId)));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals("Season " + seasonId + " was changed by another request, try again.", ex.getReason());
+        verify(seasonRepositoryMock, times(3)).findById(seasonId);
+    }
+
+    @Test
+    void addEpisodesToSeason_ShouldNotRetry_WhenSeasonNotFound() {
+        when(seasonRepositoryMock.findById(seasonId)).thenReturn(Optional.empty());
+
+        assertThrows(ResponseStatusException.class,
+                () -> seasonService.addEpisodesToSeason(seasonId, List.of(episodeId)));
+
+        verify(seasonRepositoryMock, times(1)).findById(seasonId);
+    }
+
+    private Season seasonWithEpisodes(UUID... episodeIds) {
+        Season copy = new Season();
+        copy.setId(seasonId);
+        copy.setPodcastId(podcastId);
+        copy.setEpisodes(new LinkedHashSet<>(List.of(episodeIds)));
+        return copy;
+    }
+
+
+    private SeasonDto newSeasonDto(UUID podcastId, int seasonNumber) {
+        SeasonDto newSeasonDto = new SeasonDto();
+        newSeasonDto.setName("Season " + seasonNumber);
+        newSeasonDto.setPodcastId(podcastId);
+        newSeasonDto.setSeasonNumber(seasonNumber);
+        return newSeasonDto;
+    }
+
+    private PodcastSeasonNumber podcastSeasonNumber(UUID podcastId, int seasonNumber) {
+        return new PodcastSeasonNumber() {
+            @Override
+            public UUID getPodcastId() {
+                return podcastId;
+            }
+
+            @Override
+            public Integer getSeasonNumber() {
+                return seasonNumber;
+            }
+        };
+    }
+
+    private DataIntegrityViolationException seasonNumberConflict() {
+        return new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "Duplicate entry", new SQLException("Duplicate entry"), "season." + Season.PODCAST_SEASON_NUMBER_CONSTRAINT));
+    }
+}